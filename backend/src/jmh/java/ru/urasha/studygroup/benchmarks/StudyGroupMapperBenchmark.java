@@ -0,0 +1,41 @@
+package ru.urasha.studygroup.benchmarks;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudyGroupMapperBenchmark {
+
+    private final StudyGroupMapper mapper = Mappers.getMapper(StudyGroupMapper.class);
+
+    private StudyGroupDto dto;
+    private StudyGroup entity;
+
+    @Setup
+    public void setUp() {
+        dto = StudyGroupFixtures.group("benchmark", 25, "benchmark-admin");
+        entity = mapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public StudyGroup toEntity() {
+        return mapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public StudyGroup updateEntityFromDto() {
+        mapper.updateEntityFromDto(dto, entity);
+        return entity;
+    }
+}
@@ -0,0 +1,64 @@
+package ru.urasha.studygroup.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a page of groups the way the list endpoint does ({@link PageResponseDto}) and as a
+ * plain Spring Data {@link Page} for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudyGroupSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDto<StudyGroup> response;
+    private Page<StudyGroup> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        StudyGroupMapper mapper = Mappers.getMapper(StudyGroupMapper.class);
+        List<StudyGroup> groups = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StudyGroup group = mapper.toEntity(StudyGroupFixtures.group("group-" + i, i, "admin-" + i));
+            group.setId(i + 1);
+            group.setCreationDate(LocalDate.of(2024, 9, 1));
+            groups.add(group);
+        }
+        response = new PageResponseDto<>(groups, 0, size, 10_000L, 10_000 / size, false, true, null);
+        page = new PageImpl<>(groups, PageRequest.of(0, size), 10_000);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] springDataPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,119 @@
+package ru.urasha.studygroup.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.urasha.studygroup.StudygroupApplication;
+import ru.urasha.studygroup.dto.BatchItemResultDto;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.dto.StudyGroupFilterDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.pagination.CountMode;
+import ru.urasha.studygroup.services.SpecialOpsService;
+import ru.urasha.studygroup.services.StudyGroupBatchService;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service calls against the application running on the embedded H2 test database, seeded with
+ * {@link #groups} rows. Includes the persistence context, transactions and change events, but
+ * not HTTP.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudyGroupServiceBenchmark {
+
+    private static final int SEED_CHUNK = 1_000;
+
+    @Param({"10000"})
+    private int groups;
+
+    private ConfigurableApplicationContext context;
+    private StudyGroupService studyGroupService;
+    private SpecialOpsService specialOpsService;
+    private int[] ids;
+    private StudyGroupDto update;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(StudygroupApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        studyGroupService = context.getBean(StudyGroupService.class);
+        specialOpsService = context.getBean(SpecialOpsService.class);
+        ids = seed(context.getBean(StudyGroupBatchService.class));
+        update = StudyGroupFixtures.group("bench-updated", 30, "bench-admin-0");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<StudyGroup> getById() {
+        return studyGroupService.get(randomId());
+    }
+
+    @Benchmark
+    public PageResponseDto<StudyGroup> firstPage() {
+        return studyGroupService.getGroupPage(StudyGroupFilterDto.byName(null), PageRequest.of(0, 20, Sort.by("id")), CountMode.EXACT);
+    }
+
+    @Benchmark
+    public PageResponseDto<StudyGroup> filteredPage() {
+        return studyGroupService.getGroupPage(StudyGroupFilterDto.byName("bench-12"), PageRequest.of(0, 20, Sort.by("name")), CountMode.EXACT);
+    }
+
+    @Benchmark
+    public StudyGroup update() {
+        return studyGroupService.update(randomId(), update);
+    }
+
+    @Benchmark
+    public List<StudyGroupSummaryDto> searchByName() {
+        return specialOpsService.searchByName("bench-12");
+    }
+
+    @Benchmark
+    public PageResponseDto<String> uniqueAdmins() {
+        return specialOpsService.getUniqueAdminNamePage("bench-admin-1", 0, 20);
+    }
+
+    @Benchmark
+    public StudyGroup expelAllStudents() {
+        return specialOpsService.expelAllStudents(randomId());
+    }
+
+    private int randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private int[] seed(StudyGroupBatchService batchService) {
+        List<Integer> created = new ArrayList<>(groups);
+        for (int from = 0; from < groups; from += SEED_CHUNK) {
+            List<StudyGroupDto> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(from + SEED_CHUNK, groups); i++) {
+                chunk.add(StudyGroupFixtures.group("bench-" + i, i % 40, "bench-admin-" + i % 500));
+            }
+            batchService.createAll(chunk).items().stream()
+                    .map(BatchItemResultDto::id)
+                    .forEach(created::add);
+        }
+        return created.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,6 @@
+package ru.urasha.studygroup.cluster;
+
+public enum ClusterBusType {
+    LOCAL,
+    POSTGRES
+}
@@ -0,0 +1,10 @@
+package ru.urasha.studygroup.cluster;
+
+/**
+ * Fans committed changes out to every application node, including the one that made them.
+ * Implementations hand each received change to the {@link ClusterEventDispatcher}.
+ */
+public interface ClusterEventBus {
+
+    void publish(ClusterMessage message);
+}
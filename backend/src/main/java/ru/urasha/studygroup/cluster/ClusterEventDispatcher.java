@@ -0,0 +1,44 @@
+package ru.urasha.studygroup.cluster;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import ru.urasha.studygroup.events.StudyGroupChangeReceivedEvent;
+import ru.urasha.studygroup.events.StudyGroupResyncEvent;
+import ru.urasha.studygroup.events.StudyGroupRevision;
+
+import java.util.UUID;
+
+/**
+ * Entry point for changes arriving from the bus. Republishes them inside this node as
+ * {@link StudyGroupChangeReceivedEvent}, flagged as local when this node made them. Changes from
+ * other nodes advance the {@link StudyGroupRevision} only after all listeners have applied them.
+ * A bus that may have dropped messages calls {@link #resync()} instead.
+ */
+@Component
+public class ClusterEventDispatcher {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudyGroupRevision revision;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ClusterEventDispatcher(ApplicationEventPublisher eventPublisher, StudyGroupRevision revision) {
+        this.eventPublisher = eventPublisher;
+        this.revision = revision;
+    }
+
+    public void deliver(ClusterMessage message) {
+        boolean local = nodeId.equals(message.origin());
+        eventPublisher.publishEvent(new StudyGroupChangeReceivedEvent(message.event(), local));
+        if (!local) {
+            revision.advance();
+        }
+    }
+
+    public void resync() {
+        eventPublisher.publishEvent(new StudyGroupResyncEvent());
+        revision.advance();
+    }
+}
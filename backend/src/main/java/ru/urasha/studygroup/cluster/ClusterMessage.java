@@ -0,0 +1,6 @@
+package ru.urasha.studygroup.cluster;
+
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+
+public record ClusterMessage(String origin, StudyGroupChangedEvent event) {
+}
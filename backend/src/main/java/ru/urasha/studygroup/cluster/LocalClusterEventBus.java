@@ -0,0 +1,21 @@
+package ru.urasha.studygroup.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node bus: delivers every change straight back to this node.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "studygroup.cluster.bus", havingValue = "local", matchIfMissing = true)
+public class LocalClusterEventBus implements ClusterEventBus {
+
+    private final ClusterEventDispatcher dispatcher;
+
+    @Override
+    public void publish(ClusterMessage message) {
+        dispatcher.deliver(message);
+    }
+}
@@ -0,0 +1,179 @@
+package ru.urasha.studygroup.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.urasha.studygroup.config.ClusterProperties;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+
+import javax.sql.DataSource;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Bus over PostgreSQL LISTEN/NOTIFY, so replicas sharing the database need no extra broker.
+ * A dedicated connection listens on the channel; large changes are split into several
+ * notifications to stay under the 8000 byte payload limit. Notifications sent while the
+ * listener is reconnecting are lost, so every reconnect asks the node to resync from the database
+ * once it is listening again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "studygroup.cluster.bus", havingValue = "postgres")
+public class PostgresClusterEventBus implements ClusterEventBus, SmartLifecycle {
+
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final ObjectMapper objectMapper;
+    private final ClusterEventDispatcher dispatcher;
+    private final ClusterProperties properties;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresClusterEventBus(DataSource dataSource,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   ClusterEventDispatcher dispatcher,
+                                   ClusterProperties properties) {
+        if (!CHANNEL_NAME.matcher(properties.channel()).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + properties.channel());
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.properties = properties;
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        List<String> payloads = new ArrayList<>();
+        encode(message.origin(), message.event(), payloads);
+        newTransaction.executeWithoutResult(status -> payloads.forEach(payload ->
+                jdbcTemplate.queryForList("select pg_notify(?, ?)", properties.channel(), payload)));
+    }
+
+    private void encode(String origin, StudyGroupChangedEvent event, List<String> payloads) {
+        String payload = toJson(new ClusterMessage(origin, event));
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES || event.ids().size() <= 1) {
+            payloads.add(payload);
+            return;
+        }
+        int half = event.ids().size() / 2;
+        encode(origin, part(event, event.ids().subList(0, half)), payloads);
+        encode(origin, part(event, event.ids().subList(half, event.ids().size())), payloads);
+    }
+
+    private static StudyGroupChangedEvent part(StudyGroupChangedEvent event, List<Integer> ids) {
+        Set<Integer> included = new HashSet<>(ids);
+        List<StudyGroupSummaryDto> groups = event.groups().stream()
+                .filter(group -> included.contains(group.id()))
+                .toList();
+        return new StudyGroupChangedEvent(List.copyOf(ids), event.type(), groups);
+    }
+
+    private String toJson(ClusterMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for study group changes on channel {}", properties.channel());
+                if (reconnect) {
+                    // Anything committed from here on is queued on this connection, so rebuilding
+                    // now covers exactly the window the previous connection missed.
+                    dispatcher.resync();
+                }
+                reconnect = true;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                reconnect = true;
+                if (running) {
+                    log.warn("Change listener failed, reconnecting in {}", properties.reconnectDelay(), e);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            dispatcher.deliver(objectMapper.readValue(payload, ClusterMessage.class));
+        } catch (Exception e) {
+            log.warn("Could not handle change notification {}", payload, e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.reconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "cluster-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
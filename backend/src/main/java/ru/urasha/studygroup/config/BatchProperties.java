@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "studygroup.batch")
+public record BatchProperties(@DefaultValue("1000") int maxSize) {
+}
@@ -0,0 +1,51 @@
+package ru.urasha.studygroup.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STUDY_GROUPS = "studyGroups";
+    public static final String STUDY_GROUP_PAGES = "studyGroupPages";
+    public static final String METHOD_KEY_GENERATOR = "methodKeyGenerator";
+
+    @Bean
+    public CacheManager cacheManager(StudyGroupCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new EvictionSafeCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.registerCustomCache(STUDY_GROUPS, build(properties.groups()));
+        cacheManager.registerCustomCache(STUDY_GROUP_PAGES, build(properties.pages()));
+        return cacheManager;
+    }
+
+    /**
+     * Several page queries share one cache, so the method name is part of the key.
+     */
+    @Bean(METHOD_KEY_GENERATOR)
+    public KeyGenerator methodKeyGenerator() {
+        return (target, method, params) -> new SimpleKey(method.getName(), SimpleKeyGenerator.generateKey(params));
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> build(StudyGroupCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import ru.urasha.studygroup.cluster.ClusterBusType;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "studygroup.cluster")
+public record ClusterProperties(
+        @DefaultValue("LOCAL") ClusterBusType bus,
+        @DefaultValue("study_group_changes") String channel,
+        @DefaultValue("5s") Duration reconnectDelay
+) {
+}
@@ -0,0 +1,81 @@
+package ru.urasha.studygroup.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caffeine cache that does not store a value whose load overlapped an eviction. Without this, a
+ * read that loaded the old row just before a commit could put it back after the commit's
+ * eviction and serve it until it expired. Only {@code @Cacheable(sync = true)} loads go through
+ * {@link #get(Object, Callable)}, so every cached method here is declared that way.
+ */
+class EvictionSafeCaffeineCache extends CaffeineCache {
+
+    private final AtomicLong evictions = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    EvictionSafeCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long before = evictions.get();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        lock.readLock().lock();
+        try {
+            if (evictions.get() == before) {
+                put(key, value);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return invalidating(() -> super.evictIfPresent(key));
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return invalidating(super::invalidate);
+    }
+
+    private boolean invalidating(BooleanSupplier action) {
+        lock.writeLock().lock();
+        try {
+            evictions.incrementAndGet();
+            return action.getAsBoolean();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
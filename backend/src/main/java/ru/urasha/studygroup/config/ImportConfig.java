@@ -0,0 +1,24 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportConfig {
+
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+
+    @Bean(IMPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor importExecutor(ImportProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.concurrency());
+        executor.setMaxPoolSize(properties.concurrency());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("import-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        return executor;
+    }
+}
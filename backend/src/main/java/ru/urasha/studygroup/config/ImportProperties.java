@@ -0,0 +1,14 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "studygroup.import")
+public record ImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("100") int maxReportedErrors,
+        @DefaultValue("100") int retainedJobs,
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("10") int queueCapacity
+) {
+}
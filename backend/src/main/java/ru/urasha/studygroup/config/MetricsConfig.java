@@ -0,0 +1,58 @@
+package ru.urasha.studygroup.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import ru.urasha.studygroup.events.GroupViewRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Records how many entities each Hibernate session holds when it closes. With open-in-view
+     * that is one session per request, reads included, so it shows requests that load far more
+     * than they need.
+     */
+    @Bean
+    public static BeanPostProcessor persistenceContextMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factory) {
+                    factory.setEntityManagerInitializer(entityManager -> {
+                        Session session = entityManager.unwrap(Session.class);
+                        session.addEventListeners(new SessionEventListener() {
+                            @Override
+                            public void end() {
+                                managedEntities(meterRegistry.getObject())
+                                        .record(session.getStatistics().getEntityCount());
+                            }
+                        });
+                    });
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static DistributionSummary managedEntities(MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("studygroup.jpa.session.entities")
+                .description("Managed entities in the persistence context when the session closes")
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder groupViewMetrics(GroupViewRegistry viewRegistry) {
+        return registry -> Gauge.builder("studygroup.notifications.views", viewRegistry, GroupViewRegistry::size)
+                .description("WebSocket sessions with a registered group view")
+                .register(registry);
+    }
+}
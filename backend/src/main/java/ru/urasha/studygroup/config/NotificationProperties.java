@@ -0,0 +1,17 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import ru.urasha.studygroup.events.NotificationPayload;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "studygroup.notifications")
+public record NotificationProperties(
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("10000") int maxPendingIds,
+        @DefaultValue("DELTA") NotificationPayload payload,
+        @DefaultValue("10000") int changeLogSize,
+        @DefaultValue("64") int dispatchQueueCapacity
+) {
+}
@@ -0,0 +1,13 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "studygroup.outbox")
+public record OutboxProperties(
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("100") int batchSize
+) {
+}
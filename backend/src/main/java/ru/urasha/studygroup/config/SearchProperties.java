@@ -0,0 +1,9 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import ru.urasha.studygroup.search.SearchEngine;
+
+@ConfigurationProperties(prefix = "studygroup.search")
+public record SearchProperties(@DefaultValue("DATABASE") SearchEngine engine) {
+}
@@ -0,0 +1,19 @@
+package ru.urasha.studygroup.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "studygroup.cache")
+public record StudyGroupCacheProperties(
+        @DefaultValue Spec groups,
+        @DefaultValue Spec pages
+) {
+
+    public record Spec(
+            @DefaultValue("10000") long maximumSize,
+            @DefaultValue("1m") Duration expireAfterWrite
+    ) {
+    }
+}
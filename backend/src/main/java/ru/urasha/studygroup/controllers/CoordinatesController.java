@@ -4,21 +4,33 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import ru.urasha.studygroup.models.Coordinates;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.repositories.CoordinatesOptionView;
 import ru.urasha.studygroup.services.CoordinatesService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/coordinates")
 @RequiredArgsConstructor
 public class CoordinatesController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CoordinatesService coordinatesService;
 
     @GetMapping
-    public ResponseEntity<List<Coordinates>> getAllCoordinates() {
-        return ResponseEntity.ok().body(coordinatesService.getAll());
+    public ResponseEntity<PageResponseDto<CoordinatesOptionView>> getAllCoordinates(
+            @RequestParam(required = false) Double x,
+            @RequestParam(required = false) Integer y,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok().body(coordinatesService.getOptions(x, y, pageSize(size), cursor));
+    }
+
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 }
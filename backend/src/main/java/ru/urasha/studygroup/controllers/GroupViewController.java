@@ -0,0 +1,21 @@
+package ru.urasha.studygroup.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+import ru.urasha.studygroup.dto.GroupViewDto;
+import ru.urasha.studygroup.events.GroupViewRegistry;
+
+@Controller
+@RequiredArgsConstructor
+public class GroupViewController {
+
+    private final GroupViewRegistry viewRegistry;
+
+    @MessageMapping("/groups/view")
+    public void registerView(@Payload GroupViewDto view, SimpMessageHeaderAccessor headers) {
+        viewRegistry.register(headers.getSessionId(), view);
+    }
+}
@@ -4,21 +4,32 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import ru.urasha.studygroup.models.Person;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.repositories.PersonOptionView;
 import ru.urasha.studygroup.services.PersonService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/persons")
 @RequiredArgsConstructor
 public class PersonController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PersonService personService;
 
     @GetMapping
-    public ResponseEntity<List<Person>> getAllPersons() {
-        return ResponseEntity.ok().body(personService.getAll());
+    public ResponseEntity<PageResponseDto<PersonOptionView>> getAllPersons(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok().body(personService.getOptions(prefix, pageSize(size), cursor));
+    }
+
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 }
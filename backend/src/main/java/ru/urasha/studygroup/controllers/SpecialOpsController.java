@@ -3,6 +3,9 @@ package ru.urasha.studygroup.controllers;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.urasha.studygroup.dto.BulkDeleteResultDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.exceptions.InvalidPageRequestException;
 import ru.urasha.studygroup.models.StudyGroup;
 import ru.urasha.studygroup.services.SpecialOpsService;
 
@@ -14,24 +17,39 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SpecialOpsController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SpecialOpsService specialOpsService;
 
     @DeleteMapping("/by-admin")
-    public ResponseEntity<Void> deleteByAdmin(@RequestParam String adminName) {
-        specialOpsService.deleteByAdminName(adminName);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<BulkDeleteResultDto> deleteByAdmin(@RequestParam String adminName) {
+        int deleted = specialOpsService.deleteByAdminName(adminName);
+        return ResponseEntity.ok(new BulkDeleteResultDto(deleted));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<StudyGroup>> searchByName(@RequestParam String substring) {
-        List<StudyGroup> studyGroups = specialOpsService.searchByName(substring);
+    public ResponseEntity<List<StudyGroupSummaryDto>> searchByName(@RequestParam String substring) {
+        List<StudyGroupSummaryDto> studyGroups = specialOpsService.searchByName(substring);
         return ResponseEntity.ok(studyGroups);
     }
 
+    /**
+     * Without {@code page} returns the plain list of names, as before; with it, one page of them.
+     * Negative pages, sizes below one and offsets past {@code int} are rejected; sizes above
+     * {@value #MAX_PAGE_SIZE} are clamped.
+     */
     @GetMapping("/unique-admins")
-    public ResponseEntity<List<String>> uniqueAdmins() {
-        List<String> uniqueAdminNames = specialOpsService.getUniqueAdminNames();
-        return ResponseEntity.ok(uniqueAdminNames);
+    public ResponseEntity<?> uniqueAdmins(@RequestParam(required = false) String prefix,
+                                          @RequestParam(required = false) Integer page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        if (page == null) {
+            return ResponseEntity.ok(specialOpsService.getUniqueAdminNames(prefix));
+        }
+        if (page < 0 || size < 1 || (long) page * Math.min(size, MAX_PAGE_SIZE) > Integer.MAX_VALUE) {
+            throw new InvalidPageRequestException(page, size);
+        }
+        return ResponseEntity.ok(specialOpsService.getUniqueAdminNamePage(prefix, page,
+                Math.min(size, MAX_PAGE_SIZE)));
     }
 
     @PostMapping("/{groupId}/expel")
@@ -2,15 +2,27 @@ package ru.urasha.studygroup.controllers;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import ru.urasha.studygroup.dto.StudyGroupDto;
+import org.springframework.web.context.request.WebRequest;
+import ru.urasha.studygroup.dto.*;
+import ru.urasha.studygroup.events.StudyGroupChangeLog;
+import ru.urasha.studygroup.events.StudyGroupRevision;
+import ru.urasha.studygroup.exceptions.InvalidPageRequestException;
+import ru.urasha.studygroup.exceptions.UnsupportedSortException;
 import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.pagination.CountMode;
+import ru.urasha.studygroup.pagination.PaginationMode;
+import ru.urasha.studygroup.pagination.StudyGroupSortField;
+import ru.urasha.studygroup.services.StudyGroupBatchService;
 import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.services.StudyGroupStatsService;
+
+import java.util.List;
 
 
 @RestController
@@ -18,24 +30,85 @@ import ru.urasha.studygroup.services.StudyGroupService;
 @RequiredArgsConstructor
 public class StudyGroupController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final StudyGroupService studyGroupService;
+    private final StudyGroupBatchService studyGroupBatchService;
+    private final StudyGroupChangeLog changeLog;
+    private final StudyGroupStatsService statsService;
+    private final StudyGroupRevision revision;
 
+    /**
+     * Lists carry a weak ETag of the node's change revision, checked before any cache or database
+     * lookup, so an unchanged list is answered with 304. Only {@link StudyGroupSortField} values
+     * may be used as {@code sort}; sizes above {@value #MAX_PAGE_SIZE} are clamped.
+     */
     @GetMapping
-    public Page<StudyGroup> list(
-            @RequestParam(required = false) String nameContains,
+    public ResponseEntity<PageResponseDto<?>> list(
+            StudyGroupFilterDto filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sort,
-            @RequestParam(defaultValue = "true") boolean asc
+            @RequestParam(defaultValue = "true") boolean asc,
+            @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) CountMode count,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
     ) {
+        StudyGroupSortField sortField = StudyGroupSortField.byProperty(sort)
+                .orElseThrow(() -> new UnsupportedSortException(sort));
+        if (page < 0 || size < 1 || (long) page * Math.min(size, MAX_PAGE_SIZE) > Integer.MAX_VALUE) {
+            throw new InvalidPageRequestException(page, size);
+        }
+        if (request.checkNotModified(revision.listETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(page(filter, page, Math.min(size, MAX_PAGE_SIZE), sortField, asc, mode, cursor, count, fields));
+    }
+
+    private PageResponseDto<?> page(StudyGroupFilterDto filter, int page, int size, StudyGroupSortField sort,
+                                    boolean asc, PaginationMode mode, String cursor, CountMode count,
+                                    List<String> fields) {
         Sort.Direction sortDirection = asc ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Pageable groupPage = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        return studyGroupService.getGroupPage(nameContains, groupPage);
+        if (mode == PaginationMode.KEYSET || cursor != null) {
+            Sort.Order order = new Sort.Order(sortDirection, sort.getProperty());
+            CountMode countMode = count == null ? CountMode.NONE : count;
+            return fields == null
+                    ? studyGroupService.scrollGroups(filter, order, size, cursor, countMode)
+                    : studyGroupService.scrollGroupColumns(filter, fields, order, size, cursor, countMode);
+        }
+        Pageable groupPage = PageRequest.of(page, size, Sort.by(sortDirection, sort.getProperty()));
+        CountMode countMode = count == null ? CountMode.EXACT : count;
+        return fields == null
+                ? studyGroupService.getGroupPage(filter, groupPage, countMode)
+                : studyGroupService.getGroupColumnsPage(filter, fields, groupPage, countMode);
+    }
+
+    @GetMapping("/changes")
+    public StudyGroupChangesDto changes(@RequestParam long since) {
+        return changeLog.since(since);
+    }
+
+    @GetMapping("/stats")
+    public StudyGroupStatsDto stats() {
+        return statsService.stats();
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<StudyGroup> get(@PathVariable Integer id) {
-        return studyGroupService.get(id).map(ResponseEntity::ok)
+        return studyGroupService.get(id)
+                .map(group -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .eTag(Long.toString(group.getVersion()))
+                            .cacheControl(CacheControl.noCache());
+                    if (group.getLastModified() != null) {
+                        response.lastModified(group.getLastModified());
+                    }
+                    return response.body(group);
+                })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -45,6 +118,21 @@ public class StudyGroupController {
         return ResponseEntity.ok(saved);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDto> createBatch(@RequestBody List<StudyGroupDto> groupDtos) {
+        return ResponseEntity.ok(studyGroupBatchService.createAll(groupDtos));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<BatchResultDto> updateBatch(@RequestBody List<StudyGroupBatchUpdateDto> items) {
+        return ResponseEntity.ok(studyGroupBatchService.updateAll(items));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<BulkDeleteResultDto> deleteBatch(@RequestBody List<Integer> ids) {
+        return ResponseEntity.ok(studyGroupBatchService.deleteAll(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<StudyGroup> update(@PathVariable Integer id,
                                              @Valid @RequestBody StudyGroupDto groupDto) {
@@ -0,0 +1,56 @@
+package ru.urasha.studygroup.controllers;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import ru.urasha.studygroup.dto.ImportJobDto;
+import ru.urasha.studygroup.services.StudyGroupExportService;
+import ru.urasha.studygroup.services.StudyGroupImportService;
+import ru.urasha.studygroup.transfer.DataFormat;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/groups")
+@RequiredArgsConstructor
+public class StudyGroupTransferController {
+
+    private final StudyGroupImportService importService;
+    private final StudyGroupExportService exportService;
+
+    @PostMapping("/import")
+    public ResponseEntity<ImportJobDto> startImport(
+            InputStream body,
+            @RequestParam(required = false) DataFormat format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType
+    ) {
+        ImportJobDto job = importService.start(body, format != null ? format : DataFormat.of(contentType));
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .path("/{id}").buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("/import/{id}")
+    public ResponseEntity<ImportJobDto> getImport(@PathVariable UUID id) {
+        return importService.getJob(id).map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") DataFormat format) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("study-groups." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(out -> exportService.export(format, out));
+    }
+}
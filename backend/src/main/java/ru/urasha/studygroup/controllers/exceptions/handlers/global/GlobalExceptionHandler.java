@@ -1,11 +1,13 @@
 package ru.urasha.studygroup.controllers.exceptions.handlers.global;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.urasha.studygroup.dto.DefaultErrorResponseDto;
+import ru.urasha.studygroup.exceptions.ExceptionMessages;
 import ru.urasha.studygroup.exceptions.StudyGroupException;
 
 import java.time.LocalDateTime;
@@ -24,6 +26,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<DefaultErrorResponseDto> handleOptimisticLock(OptimisticLockingFailureException exception) {
+        DefaultErrorResponseDto body = new DefaultErrorResponseDto(
+                LocalDateTime.now(),
+                ExceptionMessages.CONCURRENT_MODIFICATION.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> fieldErrors = new HashMap<>();
@@ -0,0 +1,13 @@
+package ru.urasha.studygroup.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BatchItemResultDto(int index, Integer id, Status status, Map<String, String> fieldErrors) {
+
+    public enum Status {
+        CREATED, UPDATED, INVALID, NOT_FOUND, DUPLICATE
+    }
+}
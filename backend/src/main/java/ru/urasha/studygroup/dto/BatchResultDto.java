@@ -0,0 +1,6 @@
+package ru.urasha.studygroup.dto;
+
+import java.util.List;
+
+public record BatchResultDto(int succeeded, int failed, List<BatchItemResultDto> items) {
+}
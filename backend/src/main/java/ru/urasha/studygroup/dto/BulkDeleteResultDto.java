@@ -0,0 +1,4 @@
+package ru.urasha.studygroup.dto;
+
+public record BulkDeleteResultDto(int deleted) {
+}
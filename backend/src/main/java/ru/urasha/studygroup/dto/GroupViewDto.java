@@ -0,0 +1,18 @@
+package ru.urasha.studygroup.dto;
+
+import java.util.List;
+
+/**
+ * What a client currently shows: the ids on screen, an optional name filter, and the sort
+ * window of the page given by the sort values of its first and last rows. A missing bound means
+ * the window is open on that side (first or last page).
+ */
+public record GroupViewDto(
+        String nameContains,
+        List<Integer> ids,
+        String sort,
+        Boolean asc,
+        Object from,
+        Object to
+) {
+}
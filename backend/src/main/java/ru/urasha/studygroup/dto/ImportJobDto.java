@@ -0,0 +1,26 @@
+package ru.urasha.studygroup.dto;
+
+import ru.urasha.studygroup.transfer.DataFormat;
+import ru.urasha.studygroup.transfer.ImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record ImportJobDto(
+        UUID id,
+        DataFormat format,
+        ImportStatus status,
+        long processed,
+        long imported,
+        long failed,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String message,
+        List<RowError> errors
+) {
+
+    public record RowError(long row, Map<String, String> fieldErrors) {
+    }
+}
@@ -0,0 +1,18 @@
+package ru.urasha.studygroup.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PageResponseDto<T>(
+        List<T> content,
+        Integer number,
+        int size,
+        Long totalElements,
+        Integer totalPages,
+        boolean totalEstimated,
+        boolean hasNext,
+        String nextCursor
+) {
+}
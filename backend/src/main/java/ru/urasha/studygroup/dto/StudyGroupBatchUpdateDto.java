@@ -0,0 +1,4 @@
+package ru.urasha.studygroup.dto;
+
+public record StudyGroupBatchUpdateDto(Integer id, StudyGroupDto group) {
+}
@@ -0,0 +1,26 @@
+package ru.urasha.studygroup.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One WebSocket frame describing every change with a sequence number in {@code fromSeq..seq}.
+ * {@code groups} carries the new state of created and updated groups unless the server runs in
+ * ids-only mode. When {@code resync} is set the lists are empty and clients should catch up via
+ * the change log or reload.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StudyGroupChangeBatchDto(
+        String event,
+        long fromSeq,
+        long seq,
+        List<Integer> created,
+        List<Integer> updated,
+        List<Integer> deleted,
+        List<StudyGroupSummaryDto> groups,
+        boolean resync
+) {
+
+    public static final String EVENT = "batch";
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StudyGroupChangeDto(long seq, EventType type, Integer id, StudyGroupSummaryDto group) {
+}
@@ -0,0 +1,10 @@
+package ru.urasha.studygroup.dto;
+
+import java.util.List;
+
+/**
+ * Changes after a given sequence number. {@code gap} means some of them are no longer retained
+ * and the client has to reload instead of applying {@code changes}.
+ */
+public record StudyGroupChangesDto(long latest, boolean gap, List<StudyGroupChangeDto> changes) {
+}
@@ -0,0 +1,40 @@
+package ru.urasha.studygroup.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import ru.urasha.studygroup.models.*;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, one-line representation of a study group with its coordinates and admin, used for CSV
+ * import and export. {@code id} and {@code creationDate} are ignored on import.
+ */
+@JsonPropertyOrder({
+        "id", "name", "creationDate", "coordinatesX", "coordinatesY", "studentsCount", "expelledStudents",
+        "transferredStudents", "formOfEducation", "shouldBeExpelled", "averageMark", "semesterEnum",
+        "groupAdminName", "groupAdminEyeColor", "groupAdminHairColor", "groupAdminPassportID",
+        "groupAdminNationality", "groupAdminLocationX", "groupAdminLocationY", "groupAdminLocationZ"
+})
+public record StudyGroupCsvRow(
+        Integer id,
+        String name,
+        LocalDate creationDate,
+        Double coordinatesX,
+        Integer coordinatesY,
+        Integer studentsCount,
+        Long expelledStudents,
+        Integer transferredStudents,
+        FormOfEducation formOfEducation,
+        Integer shouldBeExpelled,
+        Double averageMark,
+        Semester semesterEnum,
+        String groupAdminName,
+        Color groupAdminEyeColor,
+        Color groupAdminHairColor,
+        String groupAdminPassportID,
+        Country groupAdminNationality,
+        Float groupAdminLocationX,
+        Long groupAdminLocationY,
+        Float groupAdminLocationZ
+) {
+}
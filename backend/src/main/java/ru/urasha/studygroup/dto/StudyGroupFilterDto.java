@@ -0,0 +1,44 @@
+package ru.urasha.studygroup.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * List filters bound from query parameters. Every criterion is optional and they are combined
+ * with {@code and}; ranges are inclusive, enum lists match any of their values and
+ * {@code adminName} is a case-insensitive prefix of the admin's name.
+ */
+public record StudyGroupFilterDto(
+        String nameContains,
+        Integer minStudentsCount,
+        Integer maxStudentsCount,
+        Double minAverageMark,
+        Double maxAverageMark,
+        List<Semester> semesterEnum,
+        List<FormOfEducation> formOfEducation,
+        String adminName,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo
+) {
+
+    public static StudyGroupFilterDto byName(String nameContains) {
+        return new StudyGroupFilterDto(nameContains, null, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean hasNameFilter() {
+        return nameContains != null && !nameContains.isBlank();
+    }
+
+    public boolean isEmpty() {
+        return !hasNameFilter() && minStudentsCount == null && maxStudentsCount == null
+                && minAverageMark == null && maxAverageMark == null
+                && (semesterEnum == null || semesterEnum.isEmpty())
+                && (formOfEducation == null || formOfEducation.isEmpty())
+                && (adminName == null || adminName.isBlank())
+                && createdFrom == null && createdTo == null;
+    }
+}
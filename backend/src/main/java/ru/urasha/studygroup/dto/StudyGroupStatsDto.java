@@ -0,0 +1,29 @@
+package ru.urasha.studygroup.dto;
+
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+
+import java.util.List;
+
+/**
+ * Totals over all groups and per (semester, form of education). {@code averageMark} is the mean
+ * of the groups' average marks.
+ */
+public record StudyGroupStatsDto(Totals total, List<Bucket> buckets) {
+
+    public record Totals(
+            long groups,
+            long studentsCount,
+            long expelledStudents,
+            long transferredStudents,
+            double averageMark
+    ) {
+    }
+
+    public record Bucket(
+            Semester semester,
+            FormOfEducation formOfEducation,
+            Totals totals
+    ) {
+    }
+}
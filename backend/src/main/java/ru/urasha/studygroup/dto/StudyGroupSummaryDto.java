@@ -0,0 +1,26 @@
+package ru.urasha.studygroup.dto;
+
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+
+import java.time.LocalDate;
+
+/**
+ * List and notification view of a group. {@code version} is the committed row version, so a
+ * receiver can tell an older state from a newer one whatever order they arrive in.
+ */
+public record StudyGroupSummaryDto(
+        Integer id,
+        long version,
+        String name,
+        LocalDate creationDate,
+        int studentsCount,
+        long expelledStudents,
+        int transferredStudents,
+        Integer shouldBeExpelled,
+        double averageMark,
+        FormOfEducation formOfEducation,
+        Semester semesterEnum,
+        String groupAdminName
+) {
+}
@@ -0,0 +1,132 @@
+package ru.urasha.studygroup.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.util.ClassUtils;
+import ru.urasha.studygroup.dto.GroupViewDto;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * Decides whether a change is relevant to one client's view. Pages are windows over an ordered
+ * list, so a change is relevant when it touches a group on screen, lands at or before the end of
+ * the window (shifting or entering the page), or may have left a position before it. Sort keys
+ * are only compared in Java for numbers and dates; strings and enums follow the database
+ * collation, so changes sorted by them are always delivered. Whatever cannot be ruled out, such
+ * as deletes below the first page or changes without state, is delivered.
+ */
+class GroupView {
+
+    private static final Map<String, Method> SUMMARY_ACCESSORS = new HashMap<>();
+
+    static {
+        for (RecordComponent component : StudyGroupSummaryDto.class.getRecordComponents()) {
+            SUMMARY_ACCESSORS.put(component.getName(), component.getAccessor());
+        }
+    }
+
+    private final Set<Integer> ids;
+    private final String nameContains;
+    private final Method sortAccessor;
+    private final boolean ascending;
+    private final boolean firstPage;
+    private final Comparable<Object> end;
+
+    GroupView(GroupViewDto dto, ObjectMapper objectMapper) {
+        this.ids = dto.ids() == null ? Set.of() : Set.copyOf(dto.ids());
+        this.nameContains = dto.nameContains() == null || dto.nameContains().isBlank()
+                ? null
+                : dto.nameContains().toLowerCase(Locale.ROOT);
+        Method accessor = dto.sort() == null ? null : SUMMARY_ACCESSORS.get(dto.sort());
+        this.sortAccessor = accessor != null && isOrderedLikeDatabase(accessor.getReturnType()) ? accessor : null;
+        this.ascending = dto.asc() == null || dto.asc();
+        this.firstPage = dto.from() == null;
+        this.end = bound(dto.to(), objectMapper);
+    }
+
+    /**
+     * Narrows a frame down to this view. Returns {@code null} when nothing in it is relevant.
+     */
+    StudyGroupChangeBatchDto filter(StudyGroupChangeBatchDto frame, long fromSeq) {
+        if (frame.resync()) {
+            return new StudyGroupChangeBatchDto(frame.event(), fromSeq, frame.seq(),
+                    List.of(), List.of(), List.of(), frame.groups() == null ? null : List.of(), true);
+        }
+        Map<Integer, StudyGroupSummaryDto> groups = new HashMap<>();
+        if (frame.groups() != null) {
+            frame.groups().forEach(group -> groups.put(group.id(), group));
+        }
+        List<Integer> created = frame.created().stream()
+                .filter(id -> accepts(groups.get(id)))
+                .toList();
+        List<Integer> updated = frame.updated().stream()
+                .filter(id -> ids.contains(id) || !firstPage || accepts(groups.get(id)))
+                .toList();
+        List<Integer> deleted = frame.deleted().stream()
+                .filter(id -> ids.contains(id) || !firstPage)
+                .toList();
+        if (created.isEmpty() && updated.isEmpty() && deleted.isEmpty()) {
+            return null;
+        }
+        List<StudyGroupSummaryDto> kept = frame.groups() == null ? null : frame.groups().stream()
+                .filter(group -> created.contains(group.id()) || updated.contains(group.id()))
+                .toList();
+        return new StudyGroupChangeBatchDto(frame.event(), fromSeq, frame.seq(), created, updated, deleted, kept, false);
+    }
+
+    /**
+     * Whether the new state of a group puts it on screen or before the end of the window.
+     */
+    boolean accepts(StudyGroupSummaryDto group) {
+        if (group == null || ids.contains(group.id())) {
+            return true;
+        }
+        if (nameContains != null
+                && (group.name() == null || !group.name().toLowerCase(Locale.ROOT).contains(nameContains))) {
+            return false;
+        }
+        if (sortAccessor == null || end == null) {
+            return true;
+        }
+        Object value = sortValue(group);
+        if (value == null) {
+            return true;
+        }
+        int comparison = end.compareTo(value);
+        return ascending ? comparison >= 0 : comparison <= 0;
+    }
+
+    private Comparable<Object> bound(Object value, ObjectMapper objectMapper) {
+        if (value == null || sortAccessor == null) {
+            return null;
+        }
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(sortAccessor.getReturnType());
+        try {
+            return comparable(objectMapper.convertValue(value, type));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Object sortValue(StudyGroupSummaryDto group) {
+        try {
+            return comparable(sortAccessor.invoke(group));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static boolean isOrderedLikeDatabase(Class<?> type) {
+        Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+        return Number.class.isAssignableFrom(boxed) || Temporal.class.isAssignableFrom(boxed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object value) {
+        return value instanceof Comparable<?> c ? (Comparable<Object>) c : null;
+    }
+}
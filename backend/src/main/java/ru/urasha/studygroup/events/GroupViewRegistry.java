@@ -0,0 +1,68 @@
+package ru.urasha.studygroup.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import ru.urasha.studygroup.dto.GroupViewDto;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.services.NotificationService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Views registered by WebSocket sessions. Each batched frame is narrowed down per session and
+ * sent to that session's user queue only if something in it is relevant. A session's frames are
+ * numbered from the last one it received, so skipped frames do not look like gaps.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupViewRegistry {
+
+    private final NotificationService notificationService;
+    private final StudyGroupChangeLog changeLog;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Registration> registrations = new HashMap<>();
+
+    public void register(String sessionId, GroupViewDto dto) {
+        GroupView view = new GroupView(dto, objectMapper);
+        synchronized (this) {
+            Registration existing = registrations.get(sessionId);
+            long lastSentSeq = existing == null ? changeLog.latest() : existing.lastSentSeq;
+            registrations.put(sessionId, new Registration(view, lastSentSeq));
+        }
+    }
+
+    @EventListener
+    public synchronized void onDisconnect(SessionDisconnectEvent event) {
+        registrations.remove(event.getSessionId());
+    }
+
+    public synchronized int size() {
+        return registrations.size();
+    }
+
+    public synchronized void route(StudyGroupChangeBatchDto frame) {
+        registrations.forEach((sessionId, registration) -> {
+            StudyGroupChangeBatchDto filtered = registration.view.filter(frame, registration.lastSentSeq + 1);
+            if (filtered != null) {
+                notificationService.sendToSession(sessionId, filtered);
+                registration.lastSentSeq = frame.seq();
+            }
+        });
+    }
+
+    private static final class Registration {
+
+        private final GroupView view;
+        private long lastSentSeq;
+
+        private Registration(GroupView view, long lastSentSeq) {
+            this.view = view;
+            this.lastSentSeq = lastSentSeq;
+        }
+    }
+}
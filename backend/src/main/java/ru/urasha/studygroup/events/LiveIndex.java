@@ -0,0 +1,79 @@
+package ru.urasha.studygroup.events;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds an in-memory index over the study group table that is loaded by a full scan and then kept
+ * current from committed changes. A rebuild loads a fresh index while the old one keeps serving;
+ * changes that arrive meanwhile are held back and applied to the fresh index right after it is
+ * swapped in, so none are lost to the scan and none are overwritten by it.
+ */
+public class LiveIndex<I> {
+
+    private final Supplier<I> factory;
+    private final BiConsumer<I, StudyGroupChangedEvent> applier;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile I current;
+    private Queue<StudyGroupChangedEvent> pending;
+
+    public LiveIndex(Supplier<I> factory, BiConsumer<I, StudyGroupChangedEvent> applier) {
+        this.factory = factory;
+        this.applier = applier;
+        this.current = factory.get();
+    }
+
+    public I current() {
+        return current;
+    }
+
+    public void apply(StudyGroupChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(event);
+            } else {
+                applier.accept(current, event);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads a fresh index with {@code loader} and swaps it in. Changes applied before this call
+     * are committed, so the scan sees them; later ones are replayed on top of its result.
+     */
+    public synchronized I rebuild(Consumer<I> loader) {
+        lock.writeLock().lock();
+        try {
+            pending = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        I fresh = factory.get();
+        boolean loaded = false;
+        try {
+            loader.accept(fresh);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    current = fresh;
+                }
+                pending.forEach(event -> applier.accept(current, event));
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return fresh;
+    }
+}
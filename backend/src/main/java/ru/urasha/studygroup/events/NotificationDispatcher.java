@@ -0,0 +1,141 @@
+package ru.urasha.studygroup.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import ru.urasha.studygroup.config.NotificationConfig;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends batched frames to WebSocket clients on the notification executor, so slow sessions
+ * never hold up the threads producing changes. Frames wait in a bounded queue; when it is full
+ * a new frame is merged into the newest queued one, and a merged frame that grows past the
+ * pending id limit turns into a resync. Nothing is dropped silently. Frames only go to the
+ * sessions whose registered view they touch; there is no topic-wide broadcast.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final GroupViewRegistry viewRegistry;
+    private final TaskExecutor executor;
+    private final NotificationProperties properties;
+    private final Timer dispatchLatency;
+    private final Counter mergedFrames;
+
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private boolean draining;
+
+    public NotificationDispatcher(GroupViewRegistry viewRegistry,
+                                  @Qualifier(NotificationConfig.NOTIFICATION_EXECUTOR) TaskExecutor executor,
+                                  NotificationProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.viewRegistry = viewRegistry;
+        this.executor = executor;
+        this.properties = properties;
+        this.dispatchLatency = Timer.builder("studygroup.notifications.dispatch.latency")
+                .description("Time from a frame being queued until it was handed to every session")
+                .register(meterRegistry);
+        this.mergedFrames = Counter.builder("studygroup.notifications.merged")
+                .description("Frames merged into an already queued frame because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("studygroup.notifications.queue.depth", this, NotificationDispatcher::depth)
+                .description("Frames waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    public void dispatch(StudyGroupChangeBatchDto frame) {
+        synchronized (queue) {
+            if (queue.size() >= properties.dispatchQueueCapacity()) {
+                Pending newest = queue.removeLast();
+                queue.addLast(new Pending(merge(newest.frame, frame), newest.queuedAt));
+                mergedFrames.increment();
+            } else {
+                queue.addLast(new Pending(frame, System.nanoTime()));
+            }
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    public int depth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Pending next;
+            synchronized (queue) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                viewRegistry.route(next.frame);
+            } catch (RuntimeException e) {
+                log.warn("Failed to send change frame up to seq {}", next.frame.seq(), e);
+            }
+            dispatchLatency.record(System.nanoTime() - next.queuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private StudyGroupChangeBatchDto merge(StudyGroupChangeBatchDto older, StudyGroupChangeBatchDto newer) {
+        if (older.resync() || newer.resync()) {
+            return resync(older, newer);
+        }
+        Set<Integer> created = new LinkedHashSet<>(older.created());
+        Set<Integer> updated = new LinkedHashSet<>(older.updated());
+        Set<Integer> deleted = new LinkedHashSet<>(older.deleted());
+        Map<Integer, StudyGroupSummaryDto> groups = new LinkedHashMap<>();
+        if (older.groups() != null) {
+            older.groups().forEach(group -> groups.put(group.id(), group));
+        }
+        if (newer.groups() != null) {
+            newer.groups().forEach(group -> groups.put(group.id(), group));
+        }
+        newer.created().forEach(created::add);
+        for (Integer id : newer.updated()) {
+            if (!created.contains(id)) {
+                updated.add(id);
+            }
+        }
+        for (Integer id : newer.deleted()) {
+            groups.remove(id);
+            updated.remove(id);
+            if (!created.remove(id)) {
+                deleted.add(id);
+            }
+        }
+        if (created.size() + updated.size() + deleted.size() > properties.maxPendingIds()) {
+            return resync(older, newer);
+        }
+        return new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, older.fromSeq(), newer.seq(),
+                List.copyOf(created), List.copyOf(updated), List.copyOf(deleted),
+                older.groups() == null ? null : List.copyOf(groups.values()), false);
+    }
+
+    private static StudyGroupChangeBatchDto resync(StudyGroupChangeBatchDto older, StudyGroupChangeBatchDto newer) {
+        return new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, older.fromSeq(), newer.seq(),
+                List.of(), List.of(), List.of(), older.groups() == null ? null : List.of(), true);
+    }
+
+    private record Pending(StudyGroupChangeBatchDto frame, long queuedAt) {
+    }
+}
@@ -0,0 +1,6 @@
+package ru.urasha.studygroup.events;
+
+public enum NotificationPayload {
+    IDS,
+    DELTA
+}
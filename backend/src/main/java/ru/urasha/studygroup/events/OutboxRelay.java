@@ -0,0 +1,156 @@
+package ru.urasha.studygroup.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.urasha.studygroup.cluster.ClusterEventBus;
+import ru.urasha.studygroup.cluster.ClusterMessage;
+import ru.urasha.studygroup.config.OutboxProperties;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.models.OutboxEvent;
+import ru.urasha.studygroup.repositories.OutboxEventRepository;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox into the cluster bus on a background thread. Runs right after a local
+ * commit and otherwise every poll interval, which also picks up rows left by nodes that died
+ * before relaying them. Rows are deleted in the transaction that published them, so a failure
+ * in between publishes them again: delivery is at least once.
+ * <p>
+ * The worker stays a platform thread even with virtual threads enabled: it lives for the whole
+ * run and parks in {@link Object#wait}, which would pin its carrier anyway.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private final OutboxEventRepository repository;
+    private final ClusterEventBus clusterEventBus;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Object signal = new Object();
+
+    private boolean signalled;
+    private volatile boolean running;
+    private Thread worker;
+
+    public OutboxRelay(OutboxEventRepository repository,
+                       ClusterEventBus clusterEventBus,
+                       ObjectMapper objectMapper,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.clusterEventBus = clusterEventBus;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void wakeUp() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * Relays one batch of the oldest events and returns how many were relayed.
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = repository.lockOldest(Limit.of(properties.batchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            merge(batch).forEach(clusterEventBus::publish);
+            repository.deleteByIds(batch.stream().map(OutboxEvent::getId).toList());
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    /**
+     * Joins consecutive events of the same origin and type, so a burst of small transactions
+     * goes out as a few messages.
+     */
+    private List<ClusterMessage> merge(List<OutboxEvent> batch) {
+        List<ClusterMessage> messages = new ArrayList<>();
+        for (OutboxEvent outboxEvent : batch) {
+            StudyGroupChangedEvent event = fromJson(outboxEvent.getPayload());
+            ClusterMessage last = messages.isEmpty() ? null : messages.get(messages.size() - 1);
+            if (last != null && last.origin().equals(outboxEvent.getOrigin()) && last.event().type() == event.type()) {
+                List<Integer> ids = new ArrayList<>(last.event().ids());
+                ids.addAll(event.ids());
+                List<StudyGroupSummaryDto> groups = new ArrayList<>(last.event().groups());
+                groups.addAll(event.groups());
+                messages.set(messages.size() - 1,
+                        new ClusterMessage(last.origin(), new StudyGroupChangedEvent(ids, event.type(), groups)));
+            } else {
+                messages.add(new ClusterMessage(outboxEvent.getOrigin(), event));
+            }
+        }
+        return messages;
+    }
+
+    private StudyGroupChangedEvent fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, StudyGroupChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                while (running && relayBatch() == properties.batchSize()) {
+                    log.debug("Outbox backlog, relaying next batch");
+                }
+            } catch (Exception e) {
+                log.warn("Outbox relay failed", e);
+            }
+            awaitSignal();
+        }
+    }
+
+    private void awaitSignal() {
+        synchronized (signal) {
+            try {
+                if (!signalled) {
+                    signal.wait(properties.pollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            signalled = false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,54 @@
+package ru.urasha.studygroup.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.urasha.studygroup.config.CacheConfig;
+
+/**
+ * Evicts right after commit on the node that made the change, so its next read is fresh, and
+ * again when changes from other nodes arrive over the cluster bus. A resync drops everything.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyGroupCacheEvictionHandler {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(StudyGroupChangedEvent event) {
+        evict(event);
+    }
+
+    @EventListener
+    public void handleRemote(StudyGroupChangeReceivedEvent event) {
+        if (!event.local()) {
+            evict(event.change());
+        }
+    }
+
+    @EventListener(StudyGroupResyncEvent.class)
+    public void handleResync() {
+        cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    private void evict(StudyGroupChangedEvent event) {
+        Cache groups = cacheManager.getCache(CacheConfig.STUDY_GROUPS);
+        if (groups != null) {
+            event.ids().forEach(groups::evict);
+        }
+        Cache pages = cacheManager.getCache(CacheConfig.STUDY_GROUP_PAGES);
+        if (pages != null) {
+            pages.clear();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package ru.urasha.studygroup.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.dto.StudyGroupChangeDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coalesces committed changes and sends them as one frame per flush interval. Every change
+ * is first numbered by the {@link StudyGroupChangeLog}; repeated changes of the same group then
+ * collapse into its latest state. Outbox relays do not deliver in commit order, so a state with
+ * a lower group version than the pending one is dropped, as is any change after a delete. If
+ * more ids are pending than the configured limit, they are dropped and the next frame asks
+ * clients to resync instead. Frames are sent asynchronously by the {@link NotificationDispatcher}.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyGroupChangeBatcher {
+
+    private final StudyGroupChangeLog changeLog;
+    private final NotificationDispatcher dispatcher;
+    private final NotificationProperties properties;
+
+    private Map<Integer, StudyGroupChangeDto> pending = new LinkedHashMap<>();
+    private long fromSeq;
+    private boolean overflowed;
+
+    @EventListener
+    public void onChange(StudyGroupChangeReceivedEvent event) {
+        submit(event.change());
+    }
+
+    public synchronized void submit(StudyGroupChangedEvent event) {
+        List<StudyGroupChangeDto> changes = changeLog.append(event);
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (fromSeq == 0) {
+            fromSeq = changes.get(0).seq();
+        }
+        if (overflowed) {
+            return;
+        }
+        changes.forEach(this::merge);
+        if (pending.size() > properties.maxPendingIds()) {
+            pending = new LinkedHashMap<>();
+            overflowed = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${studygroup.notifications.flush-interval:200ms}")
+    public void flush() {
+        Map<Integer, StudyGroupChangeDto> changes;
+        long from;
+        long to;
+        boolean resync;
+        synchronized (this) {
+            if (fromSeq == 0) {
+                return;
+            }
+            changes = pending;
+            from = fromSeq;
+            to = changeLog.latest();
+            resync = overflowed;
+            pending = new LinkedHashMap<>();
+            fromSeq = 0;
+            overflowed = false;
+        }
+        dispatcher.dispatch(toFrame(changes, from, to, resync));
+    }
+
+    private void merge(StudyGroupChangeDto change) {
+        StudyGroupChangeDto previous = pending.get(change.id());
+        if (previous != null && isStale(change, previous)) {
+            return;
+        }
+        if (previous == null || previous.type() != EventType.CREATED) {
+            pending.put(change.id(), change);
+        } else if (change.type() == EventType.DELETED) {
+            pending.remove(change.id());
+        } else {
+            pending.put(change.id(), new StudyGroupChangeDto(
+                    change.seq(), EventType.CREATED, change.id(), change.group()));
+        }
+    }
+
+    private static boolean isStale(StudyGroupChangeDto change, StudyGroupChangeDto previous) {
+        if (previous.type() == EventType.DELETED) {
+            return change.type() != EventType.DELETED;
+        }
+        return change.group() != null && previous.group() != null
+                && change.group().version() < previous.group().version();
+    }
+
+    private StudyGroupChangeBatchDto toFrame(Map<Integer, StudyGroupChangeDto> changes,
+                                             long from, long to, boolean resync) {
+        List<Integer> created = new ArrayList<>();
+        List<Integer> updated = new ArrayList<>();
+        List<Integer> deleted = new ArrayList<>();
+        List<StudyGroupSummaryDto> groups = new ArrayList<>();
+        changes.values().forEach(change -> {
+            switch (change.type()) {
+                case CREATED -> created.add(change.id());
+                case UPDATED -> updated.add(change.id());
+                case DELETED -> deleted.add(change.id());
+            }
+            if (change.group() != null) {
+                groups.add(change.group());
+            }
+        });
+        return new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, from, to, created, updated, deleted,
+                properties.payload() == NotificationPayload.DELTA ? groups : null, resync);
+    }
+}
@@ -0,0 +1,70 @@
+package ru.urasha.studygroup.events;
+
+import org.springframework.stereotype.Component;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.StudyGroupChangeDto;
+import ru.urasha.studygroup.dto.StudyGroupChangesDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Numbers every committed change with a monotonically increasing sequence and keeps the most
+ * recent ones, so clients that missed frames can catch up without reloading.
+ */
+@Component
+public class StudyGroupChangeLog {
+
+    private final int capacity;
+    private final Deque<StudyGroupChangeDto> entries = new ArrayDeque<>();
+    private long latest;
+
+    public StudyGroupChangeLog(NotificationProperties properties) {
+        this.capacity = properties.changeLogSize();
+    }
+
+    public synchronized List<StudyGroupChangeDto> append(StudyGroupChangedEvent event) {
+        Map<Integer, StudyGroupSummaryDto> groups = event.groups().stream()
+                .collect(Collectors.toMap(StudyGroupSummaryDto::id, Function.identity(), (a, b) -> b));
+        List<StudyGroupChangeDto> appended = new ArrayList<>(event.ids().size());
+        for (Integer id : event.ids()) {
+            StudyGroupChangeDto entry = new StudyGroupChangeDto(++latest, event.type(), id, groups.get(id));
+            entries.addLast(entry);
+            appended.add(entry);
+        }
+        while (entries.size() > capacity) {
+            entries.removeFirst();
+        }
+        return appended;
+    }
+
+    public synchronized StudyGroupChangesDto since(long seq) {
+        long oldestRetained = entries.isEmpty() ? latest + 1 : entries.getFirst().seq();
+        if (seq > latest || seq + 1 < oldestRetained) {
+            return new StudyGroupChangesDto(latest, true, List.of());
+        }
+        List<StudyGroupChangeDto> changes = new ArrayList<>((int) (latest - seq));
+        Iterator<StudyGroupChangeDto> newestFirst = entries.descendingIterator();
+        while (newestFirst.hasNext()) {
+            StudyGroupChangeDto entry = newestFirst.next();
+            if (entry.seq() <= seq) {
+                break;
+            }
+            changes.add(entry);
+        }
+        Collections.reverse(changes);
+        return new StudyGroupChangesDto(latest, false, changes);
+    }
+
+    public synchronized long latest() {
+        return latest;
+    }
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.events;
+
+/**
+ * A committed change as delivered by the cluster bus. {@code local} is set when it was made
+ * on this node, whose own caches were already updated right after commit.
+ */
+public record StudyGroupChangeReceivedEvent(StudyGroupChangedEvent change, boolean local) {
+}
@@ -1,6 +1,26 @@
 package ru.urasha.studygroup.events;
 
-public record StudyGroupChangedEvent(Integer id, EventType type) {
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+
+import java.util.List;
+
+/**
+ * Groups changed by one transaction. For creates and updates {@code groups} holds their new
+ * state, so listeners can forward it without reading the rows again; it is empty for deletes.
+ */
+public record StudyGroupChangedEvent(List<Integer> ids, EventType type, List<StudyGroupSummaryDto> groups) {
+
+    public StudyGroupChangedEvent(List<Integer> ids, EventType type) {
+        this(ids, type, List.of());
+    }
+
+    public StudyGroupChangedEvent(Integer id, EventType type) {
+        this(List.of(id), type);
+    }
+
+    public StudyGroupChangedEvent(EventType type, List<StudyGroupSummaryDto> groups) {
+        this(groups.stream().map(StudyGroupSummaryDto::id).toList(), type, groups);
+    }
 
     public enum EventType {
         CREATED, UPDATED, DELETED
@@ -0,0 +1,44 @@
+package ru.urasha.studygroup.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.urasha.studygroup.cluster.ClusterEventDispatcher;
+import ru.urasha.studygroup.models.OutboxEvent;
+import ru.urasha.studygroup.repositories.OutboxEventRepository;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Records every change in the outbox as part of the transaction that makes it, so the
+ * notification is stored if and only if the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyGroupOutboxWriter {
+
+    private final OutboxEventRepository repository;
+    private final ClusterEventDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handle(StudyGroupChangedEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setOrigin(dispatcher.getNodeId());
+        outboxEvent.setPayload(toJson(event));
+        outboxEvent.setCreatedAt(Instant.now());
+        repository.save(outboxEvent);
+    }
+
+    private String toJson(StudyGroupChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
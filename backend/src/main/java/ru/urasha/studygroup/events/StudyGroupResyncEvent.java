@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.events;
+
+/**
+ * Published when this node may have missed changes from the cluster bus, e.g. after the listener
+ * reconnected. Anything derived from the table in memory has to be rebuilt from the database.
+ */
+public record StudyGroupResyncEvent() {
+}
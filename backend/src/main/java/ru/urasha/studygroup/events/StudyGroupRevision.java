@@ -0,0 +1,35 @@
+package ru.urasha.studygroup.events;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local counter that moves whenever group data may have changed, used as the list ETag.
+ * Local changes advance it after completion, which runs after every after-commit listener, so
+ * caches and indexes are already current when a new tag can be handed out. Remote changes are
+ * advanced by the {@link ru.urasha.studygroup.cluster.ClusterEventDispatcher} once their
+ * listeners have run. The instance prefix keeps tags from different nodes or restarts apart.
+ */
+@Component
+public class StudyGroupRevision {
+
+    private final String instance = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong revision = new AtomicLong();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onGroupChanged(StudyGroupChangedEvent event) {
+        advance();
+    }
+
+    public void advance() {
+        revision.incrementAndGet();
+    }
+
+    public String listETag() {
+        return "W/\"" + instance + "-" + revision.get() + "\"";
+    }
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.exceptions;
+
+public class BatchTooLargeException extends StudyGroupException {
+
+    public BatchTooLargeException(int maxSize) {
+        super(String.format(ExceptionMessages.BATCH_TOO_LARGE.getMessage(), maxSize));
+    }
+}
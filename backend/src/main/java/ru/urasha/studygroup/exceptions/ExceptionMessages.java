@@ -6,7 +6,14 @@ import lombok.Getter;
 public enum ExceptionMessages {
 
     STUDY_GROUP_NOT_FOUND("StudyGroup with ID: %d not found"),
-    SAME_SOURCE_AND_TARGET("Source and target groups must be different");
+    SAME_SOURCE_AND_TARGET("Source and target groups must be different"),
+    INVALID_PAGE_REQUEST("Page %d with size %d is out of range"),
+    INVALID_CURSOR("Cursor is malformed or does not match the requested sort"),
+    UNSUPPORTED_SORT("Sorting is not supported for field: %s"),
+    UNSUPPORTED_KEYSET_SORT("Keyset pagination is not supported for sort field: %s"),
+    UNKNOWN_FIELD("Unknown field: %s"),
+    CONCURRENT_MODIFICATION("StudyGroup was modified concurrently, reload and try again"),
+    BATCH_TOO_LARGE("Batch must contain at most %d items");
 
     private final String message;
 
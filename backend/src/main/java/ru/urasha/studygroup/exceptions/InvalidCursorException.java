@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.exceptions;
+
+public class InvalidCursorException extends StudyGroupException {
+
+    public InvalidCursorException() {
+        super(ExceptionMessages.INVALID_CURSOR.getMessage());
+    }
+}
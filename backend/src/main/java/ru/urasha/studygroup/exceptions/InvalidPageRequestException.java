@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.exceptions;
+
+public class InvalidPageRequestException extends StudyGroupException {
+
+    public InvalidPageRequestException(int page, int size) {
+        super(String.format(ExceptionMessages.INVALID_PAGE_REQUEST.getMessage(), page, size));
+    }
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.exceptions;
+
+public class UnknownFieldException extends StudyGroupException {
+
+    public UnknownFieldException(String field) {
+        super(String.format(ExceptionMessages.UNKNOWN_FIELD.getMessage(), field));
+    }
+}
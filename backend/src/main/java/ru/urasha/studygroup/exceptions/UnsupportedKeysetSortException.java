@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.exceptions;
+
+public class UnsupportedKeysetSortException extends StudyGroupException {
+
+    public UnsupportedKeysetSortException(String property) {
+        super(String.format(ExceptionMessages.UNSUPPORTED_KEYSET_SORT.getMessage(), property));
+    }
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.exceptions;
+
+public class UnsupportedSortException extends StudyGroupException {
+
+    public UnsupportedSortException(String property) {
+        super(String.format(ExceptionMessages.UNSUPPORTED_SORT.getMessage(), property));
+    }
+}
@@ -1,19 +1,80 @@
 package ru.urasha.studygroup.mappers;
 
 import org.mapstruct.*;
+import ru.urasha.studygroup.dto.StudyGroupCsvRow;
 import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
 import ru.urasha.studygroup.models.StudyGroup;
 
 @Mapper(componentModel = "spring")
 public interface StudyGroupMapper {
 
+    @BeanMapping(qualifiedByName = "newRows")
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
     StudyGroup toEntity(StudyGroupDto dto);
 
     StudyGroupDto toDto(StudyGroup entity);
 
+    @Mapping(target = "groupAdminName", source = "groupAdmin.name")
+    StudyGroupSummaryDto toSummary(StudyGroup entity);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "creationDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
     void updateEntityFromDto(StudyGroupDto dto, @MappingTarget StudyGroup entity);
+
+    @BeanMapping(nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
+    @Mapping(target = "coordinates.x", source = "coordinatesX")
+    @Mapping(target = "coordinates.y", source = "coordinatesY")
+    @Mapping(target = "groupAdmin.name", source = "groupAdminName")
+    @Mapping(target = "groupAdmin.eyeColor", source = "groupAdminEyeColor")
+    @Mapping(target = "groupAdmin.hairColor", source = "groupAdminHairColor")
+    @Mapping(target = "groupAdmin.passportID", source = "groupAdminPassportID")
+    @Mapping(target = "groupAdmin.nationality", source = "groupAdminNationality")
+    @Mapping(target = "groupAdmin.location.x", source = "groupAdminLocationX")
+    @Mapping(target = "groupAdmin.location.y", source = "groupAdminLocationY")
+    @Mapping(target = "groupAdmin.location.z", source = "groupAdminLocationZ")
+    StudyGroupDto fromCsvRow(StudyGroupCsvRow row);
+
+    @Mapping(target = "coordinatesX", source = "coordinates.x")
+    @Mapping(target = "coordinatesY", source = "coordinates.y")
+    @Mapping(target = "groupAdminName", source = "groupAdmin.name")
+    @Mapping(target = "groupAdminEyeColor", source = "groupAdmin.eyeColor")
+    @Mapping(target = "groupAdminHairColor", source = "groupAdmin.hairColor")
+    @Mapping(target = "groupAdminPassportID", source = "groupAdmin.passportID")
+    @Mapping(target = "groupAdminNationality", source = "groupAdmin.nationality")
+    @Mapping(target = "groupAdminLocationX", source = "groupAdmin.location.x")
+    @Mapping(target = "groupAdminLocationY", source = "groupAdmin.location.y")
+    @Mapping(target = "groupAdminLocationZ", source = "groupAdmin.location.z")
+    StudyGroupCsvRow toCsvRow(StudyGroup entity);
+
+    /**
+     * A created group always gets new coordinates, admin and location rows. Ids carried over from
+     * an export would otherwise make them look detached and fail the insert.
+     */
+    @AfterMapping
+    @Named("newRows")
+    default void clearNestedIds(StudyGroupDto dto, @MappingTarget StudyGroup entity) {
+        if (entity.getCoordinates() != null) {
+            entity.getCoordinates().setId(null);
+        }
+        if (entity.getGroupAdmin() != null) {
+            entity.getGroupAdmin().setId(null);
+            if (entity.getGroupAdmin().getLocation() != null) {
+                entity.getGroupAdmin().getLocation().setId(null);
+            }
+        }
+    }
+
+    @AfterMapping
+    default void dropEmptyLocation(StudyGroupCsvRow row, @MappingTarget StudyGroupDto dto) {
+        if (row.groupAdminLocationX() == null && row.groupAdminLocationY() == null
+                && row.groupAdminLocationZ() == null && dto.getGroupAdmin() != null) {
+            dto.getGroupAdmin().setLocation(null);
+        }
+    }
 }
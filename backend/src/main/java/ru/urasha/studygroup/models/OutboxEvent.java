@@ -0,0 +1,32 @@
+package ru.urasha.studygroup.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A committed study group change waiting to be relayed to the cluster bus. Written in the same
+ * transaction as the change itself.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "study_group_outbox")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_group_outbox_seq")
+    @SequenceGenerator(name = "study_group_outbox_seq", sequenceName = "study_group_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String origin;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
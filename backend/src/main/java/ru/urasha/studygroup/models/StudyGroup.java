@@ -5,17 +5,32 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 
 @Getter
 @Setter
 @Entity
 @Table(name = "study_group")
+@NamedEntityGraph(
+        name = StudyGroup.FULL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("coordinates"),
+                @NamedAttributeNode(value = "groupAdmin", subgraph = "groupAdmin")
+        },
+        subgraphs = @NamedSubgraph(name = "groupAdmin", attributeNodes = @NamedAttributeNode("location"))
+)
 public class StudyGroup {
 
+    public static final String FULL_GRAPH = "StudyGroup.full";
+    public static final List<String> FULL_GRAPH_PATHS = List.of("coordinates", "groupAdmin", "groupAdmin.location");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_group_seq")
+    @SequenceGenerator(name = "study_group_seq", sequenceName = "study_group_seq", allocationSize = 50)
     private Integer id;
 
     @NotBlank
@@ -53,6 +68,12 @@ public class StudyGroup {
     @Enumerated(EnumType.STRING)
     private Semester semesterEnum;
 
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
+    private Instant lastModified;
+
     @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "group_admin_id")
     @NotNull
@@ -64,5 +85,20 @@ public class StudyGroup {
         if (creationDate == null) {
             creationDate = LocalDate.now();
         }
+        lastModified = Instant.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        lastModified = Instant.now();
+    }
+
+    /**
+     * Marks the group itself as modified. Edits that only reach the coordinates, admin or
+     * location rows leave this row clean, so without it the version, and with it the ETag,
+     * would not change.
+     */
+    public void touch() {
+        lastModified = Instant.now();
     }
 }
@@ -0,0 +1,7 @@
+package ru.urasha.studygroup.pagination;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
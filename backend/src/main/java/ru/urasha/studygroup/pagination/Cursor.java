@@ -0,0 +1,9 @@
+package ru.urasha.studygroup.pagination;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Keyset position: the sort key and id of the last row the client has seen.
+ */
+public record Cursor(String property, Sort.Direction direction, Object value, Integer id) {
+}
@@ -0,0 +1,68 @@
+package ru.urasha.studygroup.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import ru.urasha.studygroup.exceptions.InvalidCursorException;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque url-safe tokens. The sort of the request is embedded so a
+ * cursor cannot be replayed against a different ordering.
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(Cursor cursor) {
+        return encodeToken(new Token(cursor.property(), cursor.direction(),
+                objectMapper.valueToTree(cursor.value()), cursor.id()));
+    }
+
+    public Cursor decode(String encoded, Class<?> entityType, Sort.Order expectedOrder) {
+        try {
+            Token token = objectMapper.readValue(Base64.getUrlDecoder().decode(encoded), Token.class);
+            if (token.id() == null
+                    || !expectedOrder.getProperty().equals(token.p())
+                    || expectedOrder.getDirection() != token.d()) {
+                throw new InvalidCursorException();
+            }
+            Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(
+                    BeanUtils.findPropertyType(token.p(), entityType));
+            Object value = objectMapper.treeToValue(token.v(), valueType);
+            return new Cursor(token.p(), token.d(), value, token.id());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * Encodes any position record, for lists whose keyset is not a single sort property.
+     */
+    public String encodeToken(Object token) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(token));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot encode cursor", e);
+        }
+    }
+
+    public <T> T decodeToken(String encoded, Class<T> type) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(encoded), type);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private record Token(String p, Sort.Direction d, JsonNode v, Integer id) {
+    }
+}
@@ -0,0 +1,6 @@
+package ru.urasha.studygroup.pagination;
+
+public enum PaginationMode {
+    OFFSET,
+    KEYSET
+}
@@ -0,0 +1,40 @@
+package ru.urasha.studygroup.pagination;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Fields a group list may be sorted by. Each one has a {@code (column, id)} index in
+ * {@code schema-postgresql.sql}, so a page is read in index order instead of sorting the table.
+ * Keyset pagination is limited to non-null columns, since the cursor cannot step over nulls.
+ */
+@Getter
+public enum StudyGroupSortField {
+
+    ID("id", true),
+    NAME("name", true),
+    CREATION_DATE("creationDate", true),
+    STUDENTS_COUNT("studentsCount", true),
+    EXPELLED_STUDENTS("expelledStudents", true),
+    TRANSFERRED_STUDENTS("transferredStudents", true),
+    SHOULD_BE_EXPELLED("shouldBeExpelled", true),
+    AVERAGE_MARK("averageMark", true),
+    SEMESTER_ENUM("semesterEnum", true),
+    FORM_OF_EDUCATION("formOfEducation", false);
+
+    private final String property;
+    private final boolean keyset;
+
+    StudyGroupSortField(String property, boolean keyset) {
+        this.property = property;
+        this.keyset = keyset;
+    }
+
+    public static Optional<StudyGroupSortField> byProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+}
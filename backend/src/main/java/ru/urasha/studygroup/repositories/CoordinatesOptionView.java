@@ -0,0 +1,10 @@
+package ru.urasha.studygroup.repositories;
+
+public interface CoordinatesOptionView {
+
+    Integer getId();
+
+    double getX();
+
+    Integer getY();
+}
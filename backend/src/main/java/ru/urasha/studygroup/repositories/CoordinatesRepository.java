@@ -1,9 +1,49 @@
 package ru.urasha.studygroup.repositories;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 import ru.urasha.studygroup.models.Coordinates;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface CoordinatesRepository extends ListCrudRepository<Coordinates, Integer> {
+public interface CoordinatesRepository extends ListCrudRepository<Coordinates, Integer>,
+        ListPagingAndSortingRepository<Coordinates, Integer> {
+
+    @Modifying
+    @Query("delete from Coordinates c where c.id in :ids")
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * The first page of distinct coordinates. Grouping and ordering follow the {@code (x, y)}
+     * index, so the database streams groups off the index and stops at the limit.
+     */
+    @Query("""
+            select min(c.id) as id, c.x as x, c.y as y
+            from Coordinates c
+            where (:x is null or c.x = :x) and (:y is null or c.y = :y)
+            group by c.x, c.y
+            order by c.x, c.y
+            """)
+    List<CoordinatesOptionView> findOptions(Double x, Integer y, Limit limit);
+
+    /**
+     * Distinct coordinates after the given {@code (x, y)}. The row-value comparison is a single
+     * range on the {@code (x, y)} index, so a page starts at the cursor; the optional x and y
+     * filters are checked on the rows read from there.
+     */
+    @Query("""
+            select min(c.id) as id, c.x as x, c.y as y
+            from Coordinates c
+            where (:x is null or c.x = :x) and (:y is null or c.y = :y)
+              and (c.x, c.y) > (:afterX, :afterY)
+            group by c.x, c.y
+            order by c.x, c.y
+            """)
+    List<CoordinatesOptionView> findOptionsAfter(Double x, Integer y, Double afterX, Integer afterY, Limit limit);
 }
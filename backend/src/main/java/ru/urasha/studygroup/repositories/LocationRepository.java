@@ -0,0 +1,17 @@
+package ru.urasha.studygroup.repositories;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.stereotype.Repository;
+import ru.urasha.studygroup.models.Location;
+
+import java.util.Collection;
+
+@Repository
+public interface LocationRepository extends ListCrudRepository<Location, Long> {
+
+    @Modifying
+    @Query("delete from Location l where l.id in :ids")
+    int deleteByIds(Collection<Long> ids);
+}
@@ -0,0 +1,27 @@
+package ru.urasha.studygroup.repositories;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import ru.urasha.studygroup.models.Color;
+
+public interface PersonOptionView {
+
+    Integer getId();
+
+    String getName();
+
+    /**
+     * The name as the database lower-cases it, which is the keyset position.
+     */
+    @JsonIgnore
+    String getNameKey();
+
+    Color getEyeColor();
+
+    Color getHairColor();
+
+    Float getLocationX();
+
+    Long getLocationY();
+
+    Float getLocationZ();
+}
@@ -1,9 +1,48 @@
 package ru.urasha.studygroup.repositories;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.ListPagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 import ru.urasha.studygroup.models.Person;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface PersonRepository extends ListCrudRepository<Person, Integer> {
+public interface PersonRepository extends ListCrudRepository<Person, Integer>,
+        ListPagingAndSortingRepository<Person, Integer> {
+
+    @Modifying
+    @Query("delete from Person p where p.id in :ids")
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * The first page of picker rows in {@code (lower(name), id)} order. {@code namePattern} is a
+     * lower-cased {@code like} pattern with {@code \} as the escape character.
+     */
+    @Query("""
+            select p.id as id, p.name as name, lower(p.name) as nameKey, p.eyeColor as eyeColor, p.hairColor as hairColor,
+                   l.x as locationX, l.y as locationY, l.z as locationZ
+            from Person p left join p.location l
+            where lower(p.name) like :namePattern escape '\\'
+            order by lower(p.name), p.id
+            """)
+    List<PersonOptionView> findOptions(String namePattern, Limit limit);
+
+    /**
+     * Picker rows after the given {@code (lower(name), id)} position. The row-value comparison is
+     * a single range on the {@code (lower(name), id)} index, so a page starts at the cursor.
+     */
+    @Query("""
+            select p.id as id, p.name as name, lower(p.name) as nameKey, p.eyeColor as eyeColor, p.hairColor as hairColor,
+                   l.x as locationX, l.y as locationY, l.z as locationZ
+            from Person p left join p.location l
+            where lower(p.name) like :namePattern escape '\\'
+              and (lower(p.name), p.id) > (:afterName, :afterId)
+            order by lower(p.name), p.id
+            """)
+    List<PersonOptionView> findOptionsAfter(String namePattern, String afterName, Integer afterId, Limit limit);
 }
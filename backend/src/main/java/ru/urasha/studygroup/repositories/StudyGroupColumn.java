@@ -0,0 +1,43 @@
+package ru.urasha.studygroup.repositories;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Columns that can be requested through {@code fields=}; each maps to an attribute path of
+ * {@link ru.urasha.studygroup.models.StudyGroup}.
+ */
+@Getter
+public enum StudyGroupColumn {
+
+    ID("id", "id"),
+    VERSION("version", "version"),
+    NAME("name", "name"),
+    CREATION_DATE("creationDate", "creationDate"),
+    STUDENTS_COUNT("studentsCount", "studentsCount"),
+    EXPELLED_STUDENTS("expelledStudents", "expelledStudents"),
+    TRANSFERRED_STUDENTS("transferredStudents", "transferredStudents"),
+    SHOULD_BE_EXPELLED("shouldBeExpelled", "shouldBeExpelled"),
+    AVERAGE_MARK("averageMark", "averageMark"),
+    FORM_OF_EDUCATION("formOfEducation", "formOfEducation"),
+    SEMESTER_ENUM("semesterEnum", "semesterEnum"),
+    COORDINATES_X("coordinatesX", "coordinates.x"),
+    COORDINATES_Y("coordinatesY", "coordinates.y"),
+    GROUP_ADMIN_NAME("groupAdminName", "groupAdmin.name");
+
+    private final String field;
+    private final String path;
+
+    StudyGroupColumn(String field, String path) {
+        this.field = field;
+        this.path = path;
+    }
+
+    public static Optional<StudyGroupColumn> byField(String field) {
+        return Arrays.stream(values())
+                .filter(column -> column.field.equals(field))
+                .findFirst();
+    }
+}
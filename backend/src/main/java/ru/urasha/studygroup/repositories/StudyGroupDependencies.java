@@ -0,0 +1,7 @@
+package ru.urasha.studygroup.repositories;
+
+/**
+ * Ids of the rows a study group owns through its cascading one-to-one associations.
+ */
+public record StudyGroupDependencies(Integer groupId, Integer coordinatesId, Integer groupAdminId, Long locationId) {
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.repositories;
+
+public interface StudyGroupHeadcountView {
+
+    Integer getId();
+
+    Integer getStudentsCount();
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.repositories;
+
+public interface StudyGroupNameView {
+
+    Integer getId();
+
+    String getName();
+}
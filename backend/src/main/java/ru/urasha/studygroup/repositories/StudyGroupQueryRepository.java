@@ -0,0 +1,34 @@
+package ru.urasha.studygroup.repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.pagination.Cursor;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StudyGroupQueryRepository {
+
+    /**
+     * Loads up to {@code limit} groups ordered by {@code order} and then by id, strictly after
+     * {@code after} when it is given. Costs the same regardless of how deep the position is.
+     */
+    List<StudyGroup> findKeysetPage(Specification<StudyGroup> spec, Sort.Order order, Cursor after, int limit);
+
+    /**
+     * Selects only the given columns, keyed by their field names. Rows are positioned either by
+     * {@code after} (keyset) or by {@code offset}.
+     */
+    List<Map<String, Object>> findColumns(Specification<StudyGroup> spec, List<StudyGroupColumn> columns,
+                                          Sort.Order order, Cursor after, long offset, int limit);
+
+    List<StudyGroupSummaryDto> findSummaries(Specification<StudyGroup> spec, Sort sort);
+
+    /**
+     * Returns the planner's row estimate for the whole table, or {@code -1} when the database
+     * keeps no such statistics.
+     */
+    long estimateCount();
+}
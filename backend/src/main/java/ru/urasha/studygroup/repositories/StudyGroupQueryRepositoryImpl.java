@@ -0,0 +1,171 @@
+package ru.urasha.studygroup.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.pagination.Cursor;
+
+import java.util.*;
+
+public class StudyGroupQueryRepositoryImpl implements StudyGroupQueryRepository {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudyGroup> findKeysetPage(Specification<StudyGroup> spec, Sort.Order order, Cursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudyGroup> query = cb.createQuery(StudyGroup.class);
+        Root<StudyGroup> root = query.from(StudyGroup.class);
+
+        applyWindow(cb, query, root, new HashMap<>(), spec, order, after);
+
+        return entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(StudyGroup.FULL_GRAPH))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findColumns(Specification<StudyGroup> spec, List<StudyGroupColumn> columns,
+                                                 Sort.Order order, Cursor after, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<StudyGroup> root = query.from(StudyGroup.class);
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (StudyGroupColumn column : columns) {
+            selections.add(resolve(root, joins, column.getPath()).alias(column.getField()));
+        }
+        query.multiselect(selections);
+        applyWindow(cb, query, root, joins, spec, order, after);
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult(after == null ? Math.toIntExact(offset) : 0)
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (StudyGroupColumn column : columns) {
+                row.put(column.getField(), tuple.get(column.getField()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public List<StudyGroupSummaryDto> findSummaries(Specification<StudyGroup> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudyGroupSummaryDto> query = cb.createQuery(StudyGroupSummaryDto.class);
+        Root<StudyGroup> root = query.from(StudyGroup.class);
+        Join<StudyGroup, ?> admin = root.join("groupAdmin", JoinType.LEFT);
+
+        query.select(cb.construct(StudyGroupSummaryDto.class,
+                root.get("id"),
+                root.get("version"),
+                root.get("name"),
+                root.get("creationDate"),
+                root.get("studentsCount"),
+                root.get("expelledStudents"),
+                root.get("transferredStudents"),
+                root.get("shouldBeExpelled"),
+                root.get("averageMark"),
+                root.get("formOfEducation"),
+                root.get("semesterEnum"),
+                admin.get("name")));
+
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(sort.stream()
+                .map(order -> order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())))
+                .toList());
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public long estimateCount() {
+        var dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        if (!(dialect instanceof PostgreSQLDialect)) {
+            return -1;
+        }
+        Number estimate = (Number) entityManager
+                .createNativeQuery("select reltuples from pg_class where relname = 'study_group'")
+                .getSingleResult();
+        return estimate.longValue();
+    }
+
+    private static void applyWindow(CriteriaBuilder cb, CriteriaQuery<?> query, Root<StudyGroup> root,
+                                    Map<String, Join<?, ?>> joins, Specification<StudyGroup> spec,
+                                    Sort.Order order, Cursor after) {
+        Path<Comparable<Object>> sortPath = resolve(root, joins, order.getProperty());
+        Path<Integer> idPath = root.get("id");
+
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (after != null) {
+            Predicate keyset = keysetPredicate(cb, order.isAscending(), sortPath, idPath, after);
+            where = where == null ? keyset : cb.and(where, keyset);
+        }
+        if (where != null) {
+            query.where(where);
+        }
+
+        if (isId(order.getProperty())) {
+            query.orderBy(order.isAscending() ? cb.asc(idPath) : cb.desc(idPath));
+        } else if (order.isAscending()) {
+            query.orderBy(cb.asc(sortPath), cb.asc(idPath));
+        } else {
+            query.orderBy(cb.desc(sortPath), cb.desc(idPath));
+        }
+    }
+
+    private static <T> Path<T> resolve(Root<StudyGroup> root, Map<String, Join<?, ?>> joins, String path) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            return root.get(path);
+        }
+        String association = path.substring(0, dot);
+        Join<?, ?> join = joins.computeIfAbsent(association, name -> root.join(name, JoinType.LEFT));
+        return join.get(path.substring(dot + 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate keysetPredicate(CriteriaBuilder cb, boolean ascending,
+                                             Path<Comparable<Object>> sortPath, Path<Integer> idPath,
+                                             Cursor after) {
+        Predicate beyondId = ascending ? cb.greaterThan(idPath, after.id()) : cb.lessThan(idPath, after.id());
+        if (isId(after.property())) {
+            return beyondId;
+        }
+        Comparable<Object> value = (Comparable<Object>) after.value();
+        Predicate beyondValue = ascending ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+        // The OR alone gives the planner no bound on the (column, id) index; the redundant leading
+        // range does, so a deep page starts at the cursor instead of scanning up to it.
+        Predicate fromValue = ascending
+                ? cb.greaterThanOrEqualTo(sortPath, value)
+                : cb.lessThanOrEqualTo(sortPath, value);
+        return cb.and(fromValue, cb.or(beyondValue, cb.and(cb.equal(sortPath, value), beyondId)));
+    }
+
+    private static boolean isId(String property) {
+        return "id".equals(property);
+    }
+}
@@ -1,23 +1,125 @@
 package ru.urasha.studygroup.repositories;
 
-import org.springframework.stereotype.Repository;
-import ru.urasha.studygroup.models.StudyGroup;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+import ru.urasha.studygroup.models.StudyGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudyGroupRepository extends JpaRepository<StudyGroup, Integer> {
+public interface StudyGroupRepository extends JpaRepository<StudyGroup, Integer>, JpaSpecificationExecutor<StudyGroup>,
+        StudyGroupQueryRepository {
+
+    @Override
+    @EntityGraph(StudyGroup.FULL_GRAPH)
+    Optional<StudyGroup> findById(Integer id);
+
+    @Override
+    @EntityGraph(StudyGroup.FULL_GRAPH)
+    List<StudyGroup> findAllById(Iterable<Integer> ids);
+
+    @Override
+    @EntityGraph(StudyGroup.FULL_GRAPH)
+    List<StudyGroup> findAll(Specification<StudyGroup> spec);
+
+    @Override
+    @EntityGraph(StudyGroup.FULL_GRAPH)
+    Page<StudyGroup> findAll(Specification<StudyGroup> spec, Pageable pageable);
+
+    @Query("select g.id from StudyGroup g where g.groupAdmin.name = :name")
+    List<Integer> findIdsByGroupAdminName(String name);
+
+    @Query("""
+            select new ru.urasha.studygroup.repositories.StudyGroupDependencies(g.id, c.id, a.id, l.id)
+            from StudyGroup g
+            left join g.coordinates c
+            left join g.groupAdmin a
+            left join a.location l
+            where g.id in :ids
+            """)
+    List<StudyGroupDependencies> findDependencies(Collection<Integer> ids);
+
+    /**
+     * Takes row locks on the given groups in id order, so concurrent multi-row operations
+     * cannot deadlock each other. Returns the groups that exist with their locked head count.
+     */
+    @Query(value = """
+            select id as id, students_count as studentsCount from study_group
+            where id in (:ids) order by id for update
+            """, nativeQuery = true)
+    List<StudyGroupHeadcountView> lockByIds(Collection<Integer> ids);
+
+    /*
+     * The updates below bump the version by hand rather than with "update versioned": Hibernate
+     * adds that assignment by mutating the cached query tree, which fails with a
+     * ConcurrentModificationException when two threads run the statement for the first time.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update StudyGroup g
+            set g.expelledStudents = g.expelledStudents + g.studentsCount, g.studentsCount = 0,
+                g.version = g.version + 1, g.lastModified = instant
+            where g.id = :id
+            """)
+    int expelAllStudents(Integer id);
+
+    /**
+     * Moves {@code count} students from one group to the other in a single statement; the caller
+     * holds both row locks, so {@code count} is the source's current head count.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update StudyGroup g
+            set g.studentsCount = case when g.id = :fromId
+                    then g.studentsCount - :count else g.studentsCount + :count end,
+                g.transferredStudents = case when g.id = :fromId
+                    then g.transferredStudents + :count else g.transferredStudents end,
+                g.version = g.version + 1, g.lastModified = instant
+            where g.id in (:fromId, :toId)
+            """)
+    int transferStudents(Integer fromId, Integer toId, int count);
+
+    @Modifying
+    @Query("delete from StudyGroup g where g.id in :ids")
+    int deleteByIds(Collection<Integer> ids);
+
+    @Query("select g.id as id, a.name as adminName from StudyGroup g join g.groupAdmin a")
+    List<StudyGroupAdminView> findAdminNames();
+
+    @Query("select a.name from StudyGroup g join g.groupAdmin a where g.id = :id")
+    Optional<String> findAdminNameById(Integer id);
+
+    @Query("select g.name from StudyGroup g where g.id = :id")
+    Optional<String> findNameById(Integer id);
 
-    Page<StudyGroup> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    List<StudyGroupNameView> findAllProjectedBy();
 
-    List<StudyGroup> findByGroupAdmin_Name(String name);
+    List<StudyGroupStatsView> findStatsBy();
 
-    List<StudyGroup> findByNameContainingIgnoreCase(String substring);
+    Optional<StudyGroupStatsView> findStatsById(Integer id);
 
-    @Query("select distinct g.groupAdmin.name from StudyGroup g where g.groupAdmin.name is not null")
-    List<String> findDistinctGroupAdminNames();
+    /**
+     * Streams every group in id order through a server-side cursor. Must be consumed inside a
+     * transaction; callers should detach rows once written to keep the persistence context small.
+     */
+    @EntityGraph(StudyGroup.FULL_GRAPH)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select g from StudyGroup g order by g.id")
+    Stream<StudyGroup> streamAllByOrderById();
 }
@@ -0,0 +1,75 @@
+package ru.urasha.studygroup.repositories;
+
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import ru.urasha.studygroup.dto.StudyGroupFilterDto;
+import ru.urasha.studygroup.models.StudyGroup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+public final class StudyGroupSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private StudyGroupSpecifications() {
+    }
+
+    public static Specification<StudyGroup> nameContains(String substring) {
+        String pattern = "%" + escapeLike(substring.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+    }
+
+    public static Specification<StudyGroup> idIn(Collection<Integer> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * Every criterion of the filter except {@code nameContains}, which depends on the configured
+     * search engine and is resolved by the search service.
+     */
+    public static Specification<StudyGroup> matching(StudyGroupFilterDto filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.minStudentsCount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("studentsCount"), filter.minStudentsCount()));
+            }
+            if (filter.maxStudentsCount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("studentsCount"), filter.maxStudentsCount()));
+            }
+            if (filter.minAverageMark() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("averageMark"), filter.minAverageMark()));
+            }
+            if (filter.maxAverageMark() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("averageMark"), filter.maxAverageMark()));
+            }
+            if (filter.semesterEnum() != null && !filter.semesterEnum().isEmpty()) {
+                predicates.add(root.get("semesterEnum").in(filter.semesterEnum()));
+            }
+            if (filter.formOfEducation() != null && !filter.formOfEducation().isEmpty()) {
+                predicates.add(root.get("formOfEducation").in(filter.formOfEducation()));
+            }
+            if (filter.adminName() != null && !filter.adminName().isBlank()) {
+                String pattern = escapeLike(filter.adminName().strip().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.like(cb.lower(root.join("groupAdmin", JoinType.INNER).get("name")),
+                        pattern, LIKE_ESCAPE));
+            }
+            if (filter.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("creationDate"), filter.createdFrom()));
+            }
+            if (filter.createdTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("creationDate"), filter.createdTo()));
+            }
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
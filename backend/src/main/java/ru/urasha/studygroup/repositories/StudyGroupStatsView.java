@@ -0,0 +1,21 @@
+package ru.urasha.studygroup.repositories;
+
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+
+public interface StudyGroupStatsView {
+
+    Integer getId();
+
+    Semester getSemesterEnum();
+
+    FormOfEducation getFormOfEducation();
+
+    int getStudentsCount();
+
+    long getExpelledStudents();
+
+    int getTransferredStudents();
+
+    double getAverageMark();
+}
@@ -0,0 +1,124 @@
+package ru.urasha.studygroup.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process set of distinct group admin names, reference-counted by the groups that use them.
+ * Names are kept in case-insensitive order, so prefix lookups are a range scan.
+ */
+public class AdminNameIndex {
+
+    private final Map<Integer, String> adminByGroup = new HashMap<>();
+    private final NavigableMap<String, Entry> names = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Integer groupId, String name) {
+        lock.writeLock().lock();
+        try {
+            String previous = name == null ? adminByGroup.remove(groupId) : adminByGroup.put(groupId, name);
+            if (Objects.equals(previous, name)) {
+                return;
+            }
+            if (previous != null) {
+                release(previous);
+            }
+            if (name != null) {
+                names.computeIfAbsent(sortKey(name), key -> new Entry(name)).count++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer groupId) {
+        lock.writeLock().lock();
+        try {
+            String previous = adminByGroup.remove(groupId);
+            if (previous != null) {
+                release(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            adminByGroup.clear();
+            names.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Names starting with {@code prefix}, ignoring case, skipping the first {@code offset}.
+     */
+    public List<String> find(String prefix, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> result = new ArrayList<>(Math.min(limit, 256));
+            Iterator<Entry> matches = range(prefix).values().iterator();
+            for (int i = 0; i < offset && matches.hasNext(); i++) {
+                matches.next();
+            }
+            while (result.size() < limit && matches.hasNext()) {
+                result.add(matches.next().name);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int count(String prefix) {
+        lock.readLock().lock();
+        try {
+            return range(prefix).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SortedMap<String, Entry> range(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return names;
+        }
+        String from = prefix.toLowerCase(Locale.ROOT);
+        return names.subMap(from, from + Character.MAX_VALUE);
+    }
+
+    private void release(String name) {
+        String key = sortKey(name);
+        Entry entry = names.get(key);
+        if (entry != null && --entry.count == 0) {
+            names.remove(key);
+        }
+    }
+
+    private static String sortKey(String name) {
+        return name.toLowerCase(Locale.ROOT) + '\0' + name;
+    }
+
+    private static final class Entry {
+
+        private final String name;
+        private int count;
+
+        private Entry(String name) {
+            this.name = name;
+        }
+    }
+}
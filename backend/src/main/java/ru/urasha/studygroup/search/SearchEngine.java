@@ -0,0 +1,6 @@
+package ru.urasha.studygroup.search;
+
+public enum SearchEngine {
+    DATABASE,
+    IN_MEMORY
+}
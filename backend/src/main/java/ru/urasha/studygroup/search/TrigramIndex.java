@@ -0,0 +1,133 @@
+package ru.urasha.studygroup.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index from lower-cased name trigrams to study group ids.
+ * Used instead of the pg_trgm GIN index when the database cannot serve substring lookups.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private final Map<Integer, String> names = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Integer id, String name) {
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            String previous = names.put(id, normalized);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            for (String trigram : trigrams(normalized)) {
+                postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            String previous = names.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            names.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of all names containing {@code substring}, ignoring case.
+     * Queries shorter than a trigram fall back to scanning the indexed names.
+     */
+    public Set<Integer> search(String substring) {
+        String query = normalize(substring);
+        lock.readLock().lock();
+        try {
+            if (query.length() < GRAM) {
+                return scan(query);
+            }
+
+            List<Set<Integer>> lists = new ArrayList<>();
+            for (String trigram : trigrams(query)) {
+                Set<Integer> ids = postings.get(trigram);
+                if (ids == null) {
+                    return Set.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            Set<Integer> result = new HashSet<>();
+            for (Integer id : lists.get(0)) {
+                if (names.get(id).contains(query)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Integer> scan(String query) {
+        Set<Integer> result = new HashSet<>();
+        names.forEach((id, name) -> {
+            if (name.contains(query)) {
+                result.add(id);
+            }
+        });
+        return result;
+    }
+
+    private void unlink(Integer id, String name) {
+        for (String trigram : trigrams(name)) {
+            Set<Integer> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            result.add(value.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.urasha.studygroup.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.events.LiveIndex;
+import ru.urasha.studygroup.events.StudyGroupChangeReceivedEvent;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+import ru.urasha.studygroup.events.StudyGroupResyncEvent;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.search.AdminNameIndex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers unique admin name lookups from an {@link AdminNameIndex} built at startup and kept
+ * current from committed changes, instead of a {@code select distinct} over the whole table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminNameService {
+
+    private final StudyGroupRepository repository;
+    private final LiveIndex<AdminNameIndex> index = new LiveIndex<>(AdminNameIndex::new, this::apply);
+
+    public List<String> names(String prefix) {
+        return index.current().find(prefix, 0, Integer.MAX_VALUE);
+    }
+
+    public PageResponseDto<String> page(String prefix, int page, int size) {
+        AdminNameIndex names = index.current();
+        List<String> content = names.find(prefix, page * size, size);
+        long total = names.count(prefix);
+        int totalPages = (int) ((total + size - 1) / size);
+        return new PageResponseDto<>(content, page, size, total, totalPages, false,
+                (long) (page + 1) * size < total, null);
+    }
+
+    @EventListener({ApplicationReadyEvent.class, StudyGroupResyncEvent.class})
+    public void rebuild() {
+        AdminNameIndex built = index.rebuild(fresh ->
+                repository.findAdminNames().forEach(view -> fresh.put(view.getId(), view.getAdminName())));
+        log.info("Admin name index built with {} distinct names", built.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGroupChanged(StudyGroupChangedEvent event) {
+        index.apply(event);
+    }
+
+    @EventListener
+    public void onRemoteGroupChanged(StudyGroupChangeReceivedEvent event) {
+        if (!event.local()) {
+            index.apply(event.change());
+        }
+    }
+
+    private void apply(AdminNameIndex target, StudyGroupChangedEvent event) {
+        Map<Integer, StudyGroupSummaryDto> groups = new HashMap<>();
+        event.groups().forEach(group -> groups.put(group.id(), group));
+        for (Integer id : event.ids()) {
+            if (event.type() == StudyGroupChangedEvent.EventType.DELETED) {
+                target.remove(id);
+            } else if (groups.containsKey(id)) {
+                target.put(id, groups.get(id).groupAdminName());
+            } else {
+                repository.findAdminNameById(id).ifPresentOrElse(
+                        name -> target.put(id, name),
+                        () -> target.remove(id)
+                );
+            }
+        }
+    }
+}
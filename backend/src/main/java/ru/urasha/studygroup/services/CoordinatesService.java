@@ -1,8 +1,11 @@
 package ru.urasha.studygroup.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import ru.urasha.studygroup.models.Coordinates;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.pagination.CursorCodec;
+import ru.urasha.studygroup.repositories.CoordinatesOptionView;
 import ru.urasha.studygroup.repositories.CoordinatesRepository;
 
 import java.util.List;
@@ -12,8 +15,24 @@ import java.util.List;
 public class CoordinatesService {
 
     private final CoordinatesRepository coordinatesRepository;
+    private final CursorCodec cursorCodec;
 
-    public List<Coordinates> getAll() {
-        return coordinatesRepository.findAll();
+    public PageResponseDto<CoordinatesOptionView> getOptions(Double x, Integer y, int size, String cursor) {
+        Position after = cursor == null || cursor.isBlank() ? null : cursorCodec.decodeToken(cursor, Position.class);
+        List<CoordinatesOptionView> rows = after == null
+                ? coordinatesRepository.findOptions(x, y, Limit.of(size + 1))
+                : coordinatesRepository.findOptionsAfter(x, y, after.x(), after.y(), Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<CoordinatesOptionView> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CoordinatesOptionView last = content.get(content.size() - 1);
+            nextCursor = cursorCodec.encodeToken(new Position(last.getX(), last.getY()));
+        }
+        return new PageResponseDto<>(content, null, size, null, null, false, hasNext, nextCursor);
+    }
+
+    private record Position(Double x, Integer y) {
     }
 }
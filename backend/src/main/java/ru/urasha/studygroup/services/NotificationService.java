@@ -1,17 +1,32 @@
 package ru.urasha.studygroup.services;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
+    private static final String SENT = "studygroup.notifications.sent";
+
     private final SimpMessagingTemplate template;
+    private final Counter sessionMessages;
+
+    public NotificationService(SimpMessagingTemplate template, MeterRegistry meterRegistry) {
+        this.template = template;
+        this.sessionMessages = Counter.builder(SENT).tag("target", "session")
+                .description("WebSocket frames sent").register(meterRegistry);
+    }
 
-    public void broadcast(Object payload) {
-        template.convertAndSend("/topic/groups", payload);
+    public void sendToSession(String sessionId, Object payload) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        template.convertAndSendToUser(sessionId, "/queue/groups", payload, headers.getMessageHeaders());
+        sessionMessages.increment();
     }
 }
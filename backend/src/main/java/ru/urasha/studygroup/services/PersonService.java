@@ -1,19 +1,59 @@
 package ru.urasha.studygroup.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import ru.urasha.studygroup.models.Person;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.pagination.CursorCodec;
+import ru.urasha.studygroup.repositories.PersonOptionView;
 import ru.urasha.studygroup.repositories.PersonRepository;
 
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class PersonService {
 
     private final PersonRepository personRepository;
+    private final CursorCodec cursorCodec;
 
-    public List<Person> getAll() {
-        return personRepository.findAll();
+    /**
+     * Admins for the group dialog picker, filtered by a case-insensitive name prefix and paged by
+     * keyset on {@code (lower(name), id)}. Identical admins are collapsed within a page.
+     */
+    public PageResponseDto<PersonOptionView> getOptions(String prefix, int size, String cursor) {
+        Position after = cursor == null || cursor.isBlank() ? null : cursorCodec.decodeToken(cursor, Position.class);
+        String namePattern = likePrefix(prefix);
+        List<PersonOptionView> rows = after == null
+                ? personRepository.findOptions(namePattern, Limit.of(size + 1))
+                : personRepository.findOptionsAfter(namePattern, after.name(), after.id(), Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<PersonOptionView> window = hasNext ? rows.subList(0, size) : rows;
+        Set<List<Object>> seen = new HashSet<>();
+        List<PersonOptionView> content = window.stream()
+                .filter(person -> seen.add(Arrays.asList(person.getName(), person.getEyeColor(),
+                        person.getHairColor(), person.getLocationX(), person.getLocationY(), person.getLocationZ())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            PersonOptionView last = window.get(window.size() - 1);
+            nextCursor = cursorCodec.encodeToken(new Position(last.getNameKey(), last.getId()));
+        }
+        return new PageResponseDto<>(content, null, size, null, null, false, hasNext, nextCursor);
+    }
+
+    private static String likePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return "%";
+        }
+        return prefix.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
+    private record Position(String name, Integer id) {
     }
 }
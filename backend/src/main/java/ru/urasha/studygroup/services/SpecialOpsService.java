@@ -2,16 +2,24 @@ package ru.urasha.studygroup.services;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.urasha.studygroup.dto.PageResponseDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
 import ru.urasha.studygroup.events.StudyGroupChangedEvent;
 import ru.urasha.studygroup.exceptions.SameSourceAndTargetGroupException;
 import ru.urasha.studygroup.exceptions.StudyGroupNotFoundException;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
 import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.StudyGroupHeadcountView;
 import ru.urasha.studygroup.repositories.StudyGroupRepository;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,80 +27,80 @@ public class SpecialOpsService {
 
     private final StudyGroupRepository studyGroupRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final StudyGroupSearchService searchService;
+    private final StudyGroupService studyGroupService;
+    private final StudyGroupMapper studyGroupMapper;
+    private final AdminNameService adminNameService;
 
     @Transactional
-    public void deleteByAdminName(String adminName) {
-        List<StudyGroup> groupsWithAdmin = studyGroupRepository.findByGroupAdmin_Name(adminName);
-
-        if (groupsWithAdmin.isEmpty()) {
-            return;
-        }
-
-        for (StudyGroup group : groupsWithAdmin) {
-            Integer groupId = group.getId();
-            studyGroupRepository.delete(group);
-            eventPublisher.publishEvent(
-                    new StudyGroupChangedEvent(groupId, StudyGroupChangedEvent.EventType.DELETED)
-            );
-        }
+    public int deleteByAdminName(String adminName) {
+        List<Integer> groupIds = studyGroupRepository.findIdsByGroupAdminName(adminName);
+        return studyGroupService.deleteAll(groupIds);
     }
 
     @Transactional(readOnly = true)
-    public List<StudyGroup> searchByName(String substring) {
-        return studyGroupRepository.findByNameContainingIgnoreCase(substring);
+    public List<StudyGroupSummaryDto> searchByName(String substring) {
+        return studyGroupRepository.findSummaries(searchService.nameContains(substring), Sort.by("id"));
     }
 
-    @Transactional(readOnly = true)
-    public List<String> getUniqueAdminNames() {
-        return studyGroupRepository.findDistinctGroupAdminNames();
+    public List<String> getUniqueAdminNames(String prefix) {
+        return adminNameService.names(prefix);
+    }
+
+    public PageResponseDto<String> getUniqueAdminNamePage(String prefix, int page, int size) {
+        return adminNameService.page(prefix, page, size);
     }
 
     @Transactional
     public StudyGroup expelAllStudents(Integer groupId) {
+        if (studyGroupRepository.expelAllStudents(groupId) == 0) {
+            throw new StudyGroupNotFoundException(groupId);
+        }
+
         StudyGroup group = studyGroupRepository.findById(groupId)
                 .orElseThrow(() -> new StudyGroupNotFoundException(groupId));
 
-        long expelledCount = group.getStudentsCount();
-        group.setExpelledStudents(Math.max(group.getExpelledStudents(), 0) + expelledCount);
-        group.setStudentsCount(0);
-
-        StudyGroup savedGroup = studyGroupRepository.save(group);
+        publishUpdated(group);
 
-        eventPublisher.publishEvent(
-                new StudyGroupChangedEvent(savedGroup.getId(), StudyGroupChangedEvent.EventType.UPDATED)
-        );
-
-        return savedGroup;
+        return group;
     }
 
+    /**
+     * Locks both groups and reads the source head count in one statement, then moves the students
+     * with a single update of both rows, so parallel transfers touching the same groups serialize
+     * instead of losing updates.
+     */
     @Transactional
     public Map<String, StudyGroup> transferAllStudents(Integer fromGroupId, Integer toGroupId) {
         if (fromGroupId.equals(toGroupId)) {
             throw new SameSourceAndTargetGroupException();
         }
 
-        StudyGroup sourceGroup = studyGroupRepository.findById(fromGroupId)
-                .orElseThrow(() -> new StudyGroupNotFoundException(fromGroupId));
-
-        StudyGroup targetGroup = studyGroupRepository.findById(toGroupId)
-                .orElseThrow(() -> new StudyGroupNotFoundException(toGroupId));
+        Map<Integer, Integer> headcounts = studyGroupRepository.lockByIds(List.of(fromGroupId, toGroupId)).stream()
+                .collect(Collectors.toMap(StudyGroupHeadcountView::getId, StudyGroupHeadcountView::getStudentsCount));
+        if (!headcounts.containsKey(fromGroupId)) {
+            throw new StudyGroupNotFoundException(fromGroupId);
+        }
+        if (!headcounts.containsKey(toGroupId)) {
+            throw new StudyGroupNotFoundException(toGroupId);
+        }
 
-        int studentsToTransfer = sourceGroup.getStudentsCount();
+        studyGroupRepository.transferStudents(fromGroupId, toGroupId, headcounts.get(fromGroupId));
 
-        targetGroup.setStudentsCount(targetGroup.getStudentsCount() + studentsToTransfer);
-        sourceGroup.setTransferredStudents(sourceGroup.getTransferredStudents() + studentsToTransfer);
-        sourceGroup.setStudentsCount(0);
+        Map<Integer, StudyGroup> groups = studyGroupRepository.findAllById(List.of(fromGroupId, toGroupId)).stream()
+                .collect(Collectors.toMap(StudyGroup::getId, Function.identity()));
+        StudyGroup sourceGroup = groups.get(fromGroupId);
+        StudyGroup targetGroup = groups.get(toGroupId);
 
-        StudyGroup savedSourceGroup = studyGroupRepository.save(sourceGroup);
-        StudyGroup savedTargetGroup = studyGroupRepository.save(targetGroup);
+        publishUpdated(sourceGroup, targetGroup);
 
-        eventPublisher.publishEvent(
-                new StudyGroupChangedEvent(savedSourceGroup.getId(), StudyGroupChangedEvent.EventType.UPDATED)
-        );
-        eventPublisher.publishEvent(
-                new StudyGroupChangedEvent(savedTargetGroup.getId(), StudyGroupChangedEvent.EventType.UPDATED)
-        );
+        return Map.of("from", sourceGroup, "to", targetGroup);
+    }
 
-        return Map.of("from", savedSourceGroup, "to", savedTargetGroup);
+    private void publishUpdated(StudyGroup... groups) {
+        eventPublisher.publishEvent(new StudyGroupChangedEvent(
+                StudyGroupChangedEvent.EventType.UPDATED,
+                Arrays.stream(groups).map(studyGroupMapper::toSummary).toList()
+        ));
     }
 }
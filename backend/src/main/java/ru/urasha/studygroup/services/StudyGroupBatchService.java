@@ -0,0 +1,149 @@
+package ru.urasha.studygroup.services;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.urasha.studygroup.config.BatchProperties;
+import ru.urasha.studygroup.dto.*;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+import ru.urasha.studygroup.exceptions.BatchTooLargeException;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-item writes. Invalid items, including {@code null} ones, are reported per index and
+ * skipped; the valid ones are written in one transaction with JDBC batching and announced by a
+ * single event. An update batch applies each id once: later items for the same id are reported
+ * as duplicates.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyGroupBatchService {
+
+    private static final Map<String, String> NULL_ITEM = Map.of("item", "must not be null");
+
+    private final StudyGroupRepository repository;
+    private final StudyGroupMapper studyGroupMapper;
+    private final StudyGroupService studyGroupService;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BatchProperties batchProperties;
+
+    @Transactional
+    public BatchResultDto createAll(List<StudyGroupDto> dtos) {
+        checkSize(dtos.size());
+
+        BatchItemResultDto[] results = new BatchItemResultDto[dtos.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<StudyGroup> groups = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            Map<String, String> errors = dtos.get(i) == null ? NULL_ITEM : validate(dtos.get(i));
+            if (errors.isEmpty()) {
+                indexes.add(i);
+                groups.add(studyGroupMapper.toEntity(dtos.get(i)));
+            } else {
+                results[i] = new BatchItemResultDto(i, null, BatchItemResultDto.Status.INVALID, errors);
+            }
+        }
+
+        List<StudyGroup> saved = repository.saveAll(groups);
+        for (int i = 0; i < saved.size(); i++) {
+            results[indexes.get(i)] = new BatchItemResultDto(
+                    indexes.get(i), saved.get(i).getId(), BatchItemResultDto.Status.CREATED, Map.of());
+        }
+
+        publish(saved, StudyGroupChangedEvent.EventType.CREATED);
+        return summarize(results, saved.size());
+    }
+
+    @Transactional
+    public BatchResultDto updateAll(List<StudyGroupBatchUpdateDto> items) {
+        checkSize(items.size());
+
+        Map<Integer, StudyGroup> existing = repository.findAllById(items.stream()
+                        .filter(Objects::nonNull)
+                        .map(StudyGroupBatchUpdateDto::id)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(StudyGroup::getId, Function.identity()));
+
+        BatchItemResultDto[] results = new BatchItemResultDto[items.size()];
+        List<StudyGroup> updated = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            StudyGroupBatchUpdateDto item = items.get(i);
+            if (item == null) {
+                results[i] = new BatchItemResultDto(i, null, BatchItemResultDto.Status.INVALID, NULL_ITEM);
+                continue;
+            }
+            if (item.id() != null && !seen.add(item.id())) {
+                results[i] = new BatchItemResultDto(i, item.id(), BatchItemResultDto.Status.DUPLICATE, Map.of());
+                continue;
+            }
+            StudyGroup group = item.id() == null ? null : existing.get(item.id());
+            if (group == null) {
+                results[i] = new BatchItemResultDto(i, item.id(), BatchItemResultDto.Status.NOT_FOUND, Map.of());
+                continue;
+            }
+            Map<String, String> errors = item.group() == null
+                    ? Map.of("group", "must not be null")
+                    : validate(item.group());
+            if (!errors.isEmpty()) {
+                results[i] = new BatchItemResultDto(i, item.id(), BatchItemResultDto.Status.INVALID, errors);
+                continue;
+            }
+            studyGroupMapper.updateEntityFromDto(item.group(), group);
+            group.touch();
+            updated.add(group);
+            results[i] = new BatchItemResultDto(i, item.id(), BatchItemResultDto.Status.UPDATED, Map.of());
+        }
+
+        // Flushed first: the published summaries must carry the bumped versions.
+        List<StudyGroup> saved = repository.saveAllAndFlush(updated);
+        publish(saved, StudyGroupChangedEvent.EventType.UPDATED);
+        return summarize(results, saved.size());
+    }
+
+    @Transactional
+    public BulkDeleteResultDto deleteAll(List<Integer> ids) {
+        checkSize(ids.size());
+        List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        return new BulkDeleteResultDto(studyGroupService.deleteAll(distinctIds));
+    }
+
+    private void checkSize(int size) {
+        if (size > batchProperties.maxSize()) {
+            throw new BatchTooLargeException(batchProperties.maxSize());
+        }
+    }
+
+    private Map<String, String> validate(StudyGroupDto dto) {
+        Set<ConstraintViolation<StudyGroupDto>> violations = validator.validate(dto);
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    private void publish(List<StudyGroup> groups, StudyGroupChangedEvent.EventType type) {
+        if (groups.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(
+                new StudyGroupChangedEvent(type, groups.stream().map(studyGroupMapper::toSummary).toList())
+        );
+    }
+
+    private static BatchResultDto summarize(BatchItemResultDto[] results, int succeeded) {
+        return new BatchResultDto(succeeded, results.length - succeeded, Arrays.asList(results));
+    }
+}
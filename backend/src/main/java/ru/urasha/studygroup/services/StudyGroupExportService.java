@@ -0,0 +1,73 @@
+package ru.urasha.studygroup.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.transfer.DataFormat;
+import ru.urasha.studygroup.transfer.StudyGroupCsv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole study group table to a stream. Rows come from a database cursor and are
+ * detached right after being written, so memory use does not grow with the table.
+ */
+@Service
+public class StudyGroupExportService {
+
+    private final StudyGroupRepository repository;
+    private final StudyGroupMapper studyGroupMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StudyGroupExportService(StudyGroupRepository repository,
+                                   StudyGroupMapper studyGroupMapper,
+                                   ObjectMapper objectMapper,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.studyGroupMapper = studyGroupMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(DataFormat format, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<StudyGroup> groups = repository.streamAllByOrderById();
+                 SequenceWriter writer = writer(format, out)) {
+                Iterator<StudyGroup> iterator = groups.iterator();
+                while (iterator.hasNext()) {
+                    StudyGroup group = iterator.next();
+                    writer.write(format == DataFormat.CSV ? studyGroupMapper.toCsvRow(group) : group);
+                    entityManager.detach(group);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private SequenceWriter writer(DataFormat format, OutputStream out) throws IOException {
+        if (format == DataFormat.CSV) {
+            return StudyGroupCsv.writer().writeValues(out);
+        }
+        return objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+    }
+}
@@ -0,0 +1,236 @@
+package ru.urasha.studygroup.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import ru.urasha.studygroup.config.BatchProperties;
+import ru.urasha.studygroup.config.ImportConfig;
+import ru.urasha.studygroup.config.ImportProperties;
+import ru.urasha.studygroup.dto.BatchItemResultDto;
+import ru.urasha.studygroup.dto.BatchResultDto;
+import ru.urasha.studygroup.dto.ImportJobDto;
+import ru.urasha.studygroup.dto.StudyGroupCsvRow;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
+import ru.urasha.studygroup.transfer.DataFormat;
+import ru.urasha.studygroup.transfer.ImportJob;
+import ru.urasha.studygroup.transfer.StudyGroupCsv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Bulk import of study groups. The request body is spooled to a temporary file so the upload
+ * finishes quickly; a worker then parses it row by row and writes it in chunks through
+ * {@link StudyGroupBatchService}, one transaction and one change event per chunk. A chunk the
+ * database refuses is retried row by row, so only the offending rows are reported; a failure
+ * that is not about a row stops the job, keeping the chunks already committed.
+ */
+@Slf4j
+@Service
+public class StudyGroupImportService {
+
+    private final StudyGroupBatchService batchService;
+    private final StudyGroupMapper studyGroupMapper;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor importExecutor;
+    private final ImportProperties properties;
+    private final Map<UUID, ImportJob> jobs;
+
+    public StudyGroupImportService(StudyGroupBatchService batchService,
+                                   StudyGroupMapper studyGroupMapper,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier(ImportConfig.IMPORT_EXECUTOR) TaskExecutor importExecutor,
+                                   ImportProperties properties,
+                                   BatchProperties batchProperties) {
+        if (properties.chunkSize() < 1 || properties.chunkSize() > batchProperties.maxSize()) {
+            throw new IllegalStateException(String.format(
+                    "studygroup.import.chunk-size must be between 1 and studygroup.batch.max-size (%d), was %d",
+                    batchProperties.maxSize(), properties.chunkSize()));
+        }
+        this.batchService = batchService;
+        this.studyGroupMapper = studyGroupMapper;
+        this.objectMapper = objectMapper;
+        this.importExecutor = importExecutor;
+        this.properties = properties;
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ImportJob> eldest) {
+                return size() > properties.retainedJobs();
+            }
+        });
+    }
+
+    public ImportJobDto start(InputStream body, DataFormat format) {
+        Path file = spool(body);
+        ImportJob job = new ImportJob(format, properties.maxReportedErrors());
+        jobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> run(job, file, format));
+        } catch (TaskRejectedException e) {
+            delete(file);
+            job.fail("Too many imports in progress, try again later");
+        }
+        return job.snapshot();
+    }
+
+    public Optional<ImportJobDto> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::snapshot);
+    }
+
+    private void run(ImportJob job, Path file, DataFormat format) {
+        job.start();
+        try {
+            ChunkWriter writer = new ChunkWriter(job);
+            if (format == DataFormat.CSV) {
+                readCsv(file, writer);
+            } else {
+                readNdjson(file, writer);
+            }
+            writer.flush();
+            job.complete();
+        } catch (Exception e) {
+            log.warn("Import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            delete(file);
+        }
+    }
+
+    private void readCsv(Path file, ChunkWriter writer) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             MappingIterator<StudyGroupCsvRow> rows = StudyGroupCsv.reader().readValues(in)) {
+            long row = 0;
+            while (rows.hasNextValue()) {
+                row++;
+                try {
+                    writer.add(row, studyGroupMapper.fromCsvRow(rows.nextValue()));
+                } catch (JsonMappingException e) {
+                    writer.reject(row, e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private void readNdjson(Path file, ChunkWriter writer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long row = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    writer.add(row, objectMapper.readValue(line, StudyGroupDto.class));
+                } catch (JsonProcessingException e) {
+                    writer.reject(row, e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private static Path spool(InputStream body) {
+        try {
+            Path file = Files.createTempFile("studygroup-import-", ".tmp");
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private class ChunkWriter {
+
+        private final ImportJob job;
+        private final List<StudyGroupDto> chunk = new ArrayList<>();
+        private final List<Long> rowNumbers = new ArrayList<>();
+        private int rejected;
+
+        ChunkWriter(ImportJob job) {
+            this.job = job;
+        }
+
+        void add(long row, StudyGroupDto dto) {
+            chunk.add(dto);
+            rowNumbers.add(row);
+            if (chunk.size() >= properties.chunkSize()) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            job.rowFailed(row, Map.of("row", String.valueOf(message)));
+            rejected++;
+        }
+
+        void flush() {
+            int imported = 0;
+            if (!chunk.isEmpty()) {
+                try {
+                    imported = write(chunk, rowNumbers);
+                } catch (RuntimeException e) {
+                    log.debug("Import {} chunk from row {} failed, retrying row by row",
+                            job.getId(), rowNumbers.get(0), e);
+                    imported = writeRowByRow();
+                }
+            }
+            job.chunkWritten(imported, rejected + chunk.size() - imported);
+            chunk.clear();
+            rowNumbers.clear();
+            rejected = 0;
+        }
+
+        private int write(List<StudyGroupDto> dtos, List<Long> rows) {
+            BatchResultDto result = batchService.createAll(dtos);
+            for (BatchItemResultDto item : result.items()) {
+                if (item.status() == BatchItemResultDto.Status.INVALID) {
+                    job.rowFailed(rows.get(item.index()), item.fieldErrors());
+                }
+            }
+            return result.succeeded();
+        }
+
+        private int writeRowByRow() {
+            int imported = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                long row = rowNumbers.get(i);
+                try {
+                    imported += write(Collections.singletonList(chunk.get(i)), List.of(row));
+                } catch (DataIntegrityViolationException e) {
+                    job.rowFailed(row, Map.of("row", NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                } catch (RuntimeException e) {
+                    job.chunkWritten(imported, rejected + i - imported);
+                    throw new IllegalStateException(String.format(
+                            "Import stopped at row %d: %s. Rows imported before it (%d) were kept",
+                            row, NestedExceptionUtils.getMostSpecificCause(e).getMessage(),
+                            job.snapshot().imported()), e);
+                }
+            }
+            return imported;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ru.urasha.studygroup.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.urasha.studygroup.config.SearchProperties;
+import ru.urasha.studygroup.events.LiveIndex;
+import ru.urasha.studygroup.events.StudyGroupChangeReceivedEvent;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+import ru.urasha.studygroup.events.StudyGroupResyncEvent;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.repositories.StudyGroupSpecifications;
+import ru.urasha.studygroup.search.SearchEngine;
+import ru.urasha.studygroup.search.TrigramIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves name substring filters either to a {@code lower(name) like} predicate served by the
+ * pg_trgm GIN index, or to an id set looked up in the in-process {@link TrigramIndex}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyGroupSearchService {
+
+    private final StudyGroupRepository repository;
+    private final SearchProperties searchProperties;
+    private final LiveIndex<TrigramIndex> index = new LiveIndex<>(TrigramIndex::new, this::apply);
+
+    public Specification<StudyGroup> nameContains(String substring) {
+        if (substring == null || substring.isBlank()) {
+            return Specification.unrestricted();
+        }
+        return isInMemory()
+                ? StudyGroupSpecifications.idIn(index.current().search(substring))
+                : StudyGroupSpecifications.nameContains(substring);
+    }
+
+    @EventListener({ApplicationReadyEvent.class, StudyGroupResyncEvent.class})
+    public void rebuildIndex() {
+        if (!isInMemory()) {
+            return;
+        }
+        TrigramIndex built = index.rebuild(fresh ->
+                repository.findAllProjectedBy().forEach(view -> fresh.put(view.getId(), view.getName())));
+        log.info("Trigram index built for {} study groups", built.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGroupChanged(StudyGroupChangedEvent event) {
+        if (isInMemory()) {
+            index.apply(event);
+        }
+    }
+
+    @EventListener
+    public void onRemoteGroupChanged(StudyGroupChangeReceivedEvent event) {
+        if (isInMemory() && !event.local()) {
+            index.apply(event.change());
+        }
+    }
+
+    private void apply(TrigramIndex target, StudyGroupChangedEvent event) {
+        Map<Integer, String> names = new HashMap<>();
+        event.groups().forEach(group -> names.put(group.id(), group.name()));
+        for (Integer id : event.ids()) {
+            if (event.type() == StudyGroupChangedEvent.EventType.DELETED) {
+                target.remove(id);
+            } else if (names.containsKey(id)) {
+                target.put(id, names.get(id));
+            } else {
+                repository.findNameById(id).ifPresentOrElse(
+                        name -> target.put(id, name),
+                        () -> target.remove(id)
+                );
+            }
+        }
+    }
+
+    private boolean isInMemory() {
+        return searchProperties.engine() == SearchEngine.IN_MEMORY;
+    }
+}
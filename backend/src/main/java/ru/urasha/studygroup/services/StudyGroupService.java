@@ -1,34 +1,121 @@
 package ru.urasha.studygroup.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.urasha.studygroup.config.CacheConfig;
+import ru.urasha.studygroup.dto.PageResponseDto;
 import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.dto.StudyGroupFilterDto;
 import ru.urasha.studygroup.events.StudyGroupChangedEvent;
 import ru.urasha.studygroup.exceptions.StudyGroupNotFoundException;
+import ru.urasha.studygroup.exceptions.UnknownFieldException;
+import ru.urasha.studygroup.exceptions.UnsupportedKeysetSortException;
 import ru.urasha.studygroup.mappers.StudyGroupMapper;
 import ru.urasha.studygroup.models.StudyGroup;
-import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.pagination.CountMode;
+import ru.urasha.studygroup.pagination.Cursor;
+import ru.urasha.studygroup.pagination.CursorCodec;
+import ru.urasha.studygroup.pagination.StudyGroupSortField;
+import ru.urasha.studygroup.repositories.*;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class StudyGroupService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final StudyGroupRepository repository;
+    private final CoordinatesRepository coordinatesRepository;
+    private final PersonRepository personRepository;
+    private final LocationRepository locationRepository;
     private final StudyGroupMapper studyGroupMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final StudyGroupSearchService searchService;
+    private final CursorCodec cursorCodec;
+
+    @Cacheable(cacheNames = CacheConfig.STUDY_GROUP_PAGES, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR, sync = true)
+    public PageResponseDto<StudyGroup> getGroupPage(StudyGroupFilterDto filter, Pageable pageable, CountMode countMode) {
+        Specification<StudyGroup> spec = specification(filter);
+
+        if (countMode == CountMode.EXACT) {
+            Page<StudyGroup> page = repository.findAll(spec, pageable);
+            return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(),
+                    page.getTotalElements(), page.getTotalPages(), false, page.hasNext(), null);
+        }
+
+        Slice<StudyGroup> slice = repository.findBy(spec, query -> query
+                .project(StudyGroup.FULL_GRAPH_PATHS)
+                .slice(pageable));
+        Total total = countTotal(filter, spec, countMode);
+        Integer totalPages = total.value() == null
+                ? null
+                : (int) Math.ceil((double) total.value() / pageable.getPageSize());
+        return new PageResponseDto<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                total.value(), totalPages, total.estimated(), slice.hasNext(), null);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.STUDY_GROUP_PAGES, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR, sync = true)
+    public PageResponseDto<StudyGroup> scrollGroups(StudyGroupFilterDto filter, Sort.Order order, int size,
+                                                    String cursor, CountMode countMode) {
+        Specification<StudyGroup> spec = specification(filter);
+        Cursor after = decodeCursor(cursor, order);
+
+        List<StudyGroup> rows = repository.findKeysetPage(spec, order, after, size + 1);
+        return keysetPage(rows, size, order,
+                group -> PropertyAccessorFactory.forBeanPropertyAccess(group).getPropertyValue(order.getProperty()),
+                StudyGroup::getId,
+                countTotal(filter, spec, countMode));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.STUDY_GROUP_PAGES, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR, sync = true)
+    public PageResponseDto<Map<String, Object>> getGroupColumnsPage(StudyGroupFilterDto filter, List<String> fields,
+                                                                   Pageable pageable, CountMode countMode) {
+        Specification<StudyGroup> spec = specification(filter);
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        List<StudyGroupColumn> columns = resolveColumns(fields, order.getProperty());
+
+        List<Map<String, Object>> rows = repository.findColumns(spec, columns, order, null,
+                pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
 
-    public Page<StudyGroup> getGroupPage(String nameContains, Pageable pageable) {
-        return nameContains == null || nameContains.isBlank()
-                ? repository.findAll(pageable)
-                : repository.findByNameContainingIgnoreCase(nameContains, pageable);
+        Total total = countTotal(filter, spec, countMode);
+        Integer totalPages = total.value() == null
+                ? null
+                : (int) Math.ceil((double) total.value() / pageable.getPageSize());
+        return new PageResponseDto<>(content, pageable.getPageNumber(), pageable.getPageSize(),
+                total.value(), totalPages, total.estimated(), hasNext, null);
     }
 
+    @Cacheable(cacheNames = CacheConfig.STUDY_GROUP_PAGES, keyGenerator = CacheConfig.METHOD_KEY_GENERATOR, sync = true)
+    public PageResponseDto<Map<String, Object>> scrollGroupColumns(StudyGroupFilterDto filter, List<String> fields,
+                                                                  Sort.Order order, int size, String cursor,
+                                                                  CountMode countMode) {
+        Specification<StudyGroup> spec = specification(filter);
+        Cursor after = decodeCursor(cursor, order);
+        List<StudyGroupColumn> columns = resolveColumns(fields, order.getProperty());
+
+        List<Map<String, Object>> rows = repository.findColumns(spec, columns, order, after, 0, size + 1);
+        return keysetPage(rows, size, order,
+                row -> row.get(order.getProperty()),
+                row -> (Integer) row.get(StudyGroupColumn.ID.getField()),
+                countTotal(filter, spec, countMode));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.STUDY_GROUPS, key = "#id", sync = true)
     public Optional<StudyGroup> get(Integer id) {
         return repository.findById(id);
     }
@@ -39,7 +126,8 @@ public class StudyGroupService {
         StudyGroup saved = repository.save(group);
 
         eventPublisher.publishEvent(
-                new StudyGroupChangedEvent(saved.getId(), StudyGroupChangedEvent.EventType.CREATED)
+                new StudyGroupChangedEvent(StudyGroupChangedEvent.EventType.CREATED,
+                        List.of(studyGroupMapper.toSummary(saved)))
         );
 
         return saved;
@@ -51,15 +139,46 @@ public class StudyGroupService {
                 .orElseThrow(() -> new StudyGroupNotFoundException(id));
 
         studyGroupMapper.updateEntityFromDto(updatedGroupDto, existingGroup);
-        StudyGroup saved = repository.save(existingGroup);
+        existingGroup.touch();
+        // Flushed so the summary carries the version this update commits with.
+        StudyGroup saved = repository.saveAndFlush(existingGroup);
 
         eventPublisher.publishEvent(
-                new StudyGroupChangedEvent(saved.getId(), StudyGroupChangedEvent.EventType.UPDATED)
+                new StudyGroupChangedEvent(StudyGroupChangedEvent.EventType.UPDATED,
+                        List.of(studyGroupMapper.toSummary(saved)))
         );
 
         return saved;
     }
 
+    /**
+     * Deletes the groups together with the coordinates, admins and locations they own using
+     * set-based statements, and publishes one event for all of them.
+     */
+    @Transactional
+    public int deleteAll(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            List<StudyGroupDependencies> dependencies = repository.findDependencies(chunk);
+
+            deleted += repository.deleteByIds(chunk);
+            deleteIfAny(collect(dependencies, StudyGroupDependencies::coordinatesId), coordinatesRepository::deleteByIds);
+            deleteIfAny(collect(dependencies, StudyGroupDependencies::groupAdminId), personRepository::deleteByIds);
+            deleteIfAny(collect(dependencies, StudyGroupDependencies::locationId), locationRepository::deleteByIds);
+        }
+
+        eventPublisher.publishEvent(
+                new StudyGroupChangedEvent(List.copyOf(ids), StudyGroupChangedEvent.EventType.DELETED)
+        );
+
+        return deleted;
+    }
+
     @Transactional
     public void delete(Integer id) {
         repository.deleteById(id);
@@ -68,4 +187,75 @@ public class StudyGroupService {
                 new StudyGroupChangedEvent(id, StudyGroupChangedEvent.EventType.DELETED)
         );
     }
+
+    private static <T> List<T> collect(List<StudyGroupDependencies> dependencies,
+                                       Function<StudyGroupDependencies, T> id) {
+        return dependencies.stream().map(id).filter(Objects::nonNull).toList();
+    }
+
+    private static <T> void deleteIfAny(List<T> ids, Consumer<List<T>> delete) {
+        if (!ids.isEmpty()) {
+            delete.accept(ids);
+        }
+    }
+
+    private Cursor decodeCursor(String cursor, Sort.Order order) {
+        if (StudyGroupSortField.byProperty(order.getProperty()).filter(StudyGroupSortField::isKeyset).isEmpty()) {
+            throw new UnsupportedKeysetSortException(order.getProperty());
+        }
+        return cursor == null || cursor.isBlank()
+                ? null
+                : cursorCodec.decode(cursor, StudyGroup.class, order);
+    }
+
+    private <T> PageResponseDto<T> keysetPage(List<T> rows, int size, Sort.Order order,
+                                              Function<T, Object> sortValue, Function<T, Integer> id,
+                                              Total total) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = cursorCodec.encode(
+                    new Cursor(order.getProperty(), order.getDirection(), sortValue.apply(last), id.apply(last)));
+        }
+        return new PageResponseDto<>(content, null, size, total.value(), null,
+                total.estimated(), hasNext, nextCursor);
+    }
+
+    /**
+     * Maps requested field names to columns; the id and the sort column are always selected
+     * because paging needs them.
+     */
+    private static List<StudyGroupColumn> resolveColumns(List<String> fields, String sortProperty) {
+        Set<StudyGroupColumn> columns = new LinkedHashSet<>();
+        columns.add(StudyGroupColumn.ID);
+        for (String field : fields) {
+            columns.add(StudyGroupColumn.byField(field.trim())
+                    .orElseThrow(() -> new UnknownFieldException(field)));
+        }
+        StudyGroupColumn.byField(sortProperty).ifPresent(columns::add);
+        return List.copyOf(columns);
+    }
+
+    private Specification<StudyGroup> specification(StudyGroupFilterDto filter) {
+        return searchService.nameContains(filter.nameContains()).and(StudyGroupSpecifications.matching(filter));
+    }
+
+    private Total countTotal(StudyGroupFilterDto filter, Specification<StudyGroup> spec, CountMode countMode) {
+        if (countMode == CountMode.NONE) {
+            return new Total(null, false);
+        }
+        if (countMode == CountMode.ESTIMATED && filter.isEmpty()) {
+            long estimate = repository.estimateCount();
+            if (estimate >= 0) {
+                return new Total(estimate, true);
+            }
+        }
+        return new Total(repository.count(spec), false);
+    }
+
+    private record Total(Long value, boolean estimated) {
+    }
 }
@@ -0,0 +1,84 @@
+package ru.urasha.studygroup.services;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.urasha.studygroup.dto.StudyGroupStatsDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.events.LiveIndex;
+import ru.urasha.studygroup.events.StudyGroupChangeReceivedEvent;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+import ru.urasha.studygroup.events.StudyGroupResyncEvent;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.repositories.StudyGroupStatsView;
+import ru.urasha.studygroup.stats.GroupStatsIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves dashboard statistics from a {@link GroupStatsIndex} built at startup and then kept
+ * current from committed changes, both local and from other nodes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyGroupStatsService {
+
+    private final StudyGroupRepository repository;
+    private final LiveIndex<GroupStatsIndex> index = new LiveIndex<>(GroupStatsIndex::new, this::apply);
+
+    public StudyGroupStatsDto stats() {
+        return index.current().snapshot();
+    }
+
+    @EventListener({ApplicationReadyEvent.class, StudyGroupResyncEvent.class})
+    public void rebuild() {
+        GroupStatsIndex built = index.rebuild(fresh ->
+                repository.findStatsBy().forEach(view -> fresh.put(view.getId(), toEntry(view))));
+        log.info("Statistics built for {} study groups", built.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGroupChanged(StudyGroupChangedEvent event) {
+        index.apply(event);
+    }
+
+    @EventListener
+    public void onRemoteGroupChanged(StudyGroupChangeReceivedEvent event) {
+        if (!event.local()) {
+            index.apply(event.change());
+        }
+    }
+
+    private void apply(GroupStatsIndex target, StudyGroupChangedEvent event) {
+        Map<Integer, StudyGroupSummaryDto> groups = new HashMap<>();
+        event.groups().forEach(group -> groups.put(group.id(), group));
+        for (Integer id : event.ids()) {
+            if (event.type() == StudyGroupChangedEvent.EventType.DELETED) {
+                target.remove(id);
+            } else if (groups.containsKey(id)) {
+                target.put(id, toEntry(groups.get(id)));
+            } else {
+                repository.findStatsById(id).ifPresentOrElse(
+                        view -> target.put(id, toEntry(view)),
+                        () -> target.remove(id)
+                );
+            }
+        }
+    }
+
+    private static GroupStatsIndex.Entry toEntry(StudyGroupStatsView view) {
+        return new GroupStatsIndex.Entry(view.getSemesterEnum(), view.getFormOfEducation(), view.getStudentsCount(),
+                view.getExpelledStudents(), view.getTransferredStudents(), view.getAverageMark());
+    }
+
+    private static GroupStatsIndex.Entry toEntry(StudyGroupSummaryDto group) {
+        return new GroupStatsIndex.Entry(group.semesterEnum(), group.formOfEducation(), group.studentsCount(),
+                group.expelledStudents(), group.transferredStudents(), group.averageMark());
+    }
+}
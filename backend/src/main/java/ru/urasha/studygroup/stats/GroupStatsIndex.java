@@ -0,0 +1,111 @@
+package ru.urasha.studygroup.stats;
+
+import ru.urasha.studygroup.dto.StudyGroupStatsDto;
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+
+import java.util.*;
+
+/**
+ * In-process aggregates per (semester, form of education). Each group's last known contribution
+ * is kept, so an update or delete only has to subtract it and add the new one instead of
+ * rescanning the table.
+ */
+public class GroupStatsIndex {
+
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing(Key::semester, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Key::form, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Key, Sums> buckets = new HashMap<>();
+    private final Sums total = new Sums();
+
+    public synchronized void put(Integer id, Entry entry) {
+        Entry previous = entries.put(id, entry);
+        if (previous != null) {
+            unlink(previous);
+        }
+        total.add(entry, 1);
+        buckets.computeIfAbsent(entry.key(), key -> new Sums()).add(entry, 1);
+    }
+
+    public synchronized void remove(Integer id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        buckets.clear();
+        total.reset();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized StudyGroupStatsDto snapshot() {
+        List<StudyGroupStatsDto.Bucket> result = new ArrayList<>(buckets.size());
+        buckets.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .forEach(bucket -> result.add(new StudyGroupStatsDto.Bucket(
+                        bucket.getKey().semester(), bucket.getKey().form(), bucket.getValue().toTotals())));
+        return new StudyGroupStatsDto(total.toTotals(), result);
+    }
+
+    private void unlink(Entry entry) {
+        total.add(entry, -1);
+        Sums bucket = buckets.get(entry.key());
+        bucket.add(entry, -1);
+        if (bucket.groups == 0) {
+            buckets.remove(entry.key());
+        }
+    }
+
+    public record Entry(
+            Semester semester,
+            FormOfEducation form,
+            int studentsCount,
+            long expelledStudents,
+            int transferredStudents,
+            double averageMark
+    ) {
+
+        private Key key() {
+            return new Key(semester, form);
+        }
+    }
+
+    private record Key(Semester semester, FormOfEducation form) {
+    }
+
+    private static final class Sums {
+
+        private long groups;
+        private long studentsCount;
+        private long expelledStudents;
+        private long transferredStudents;
+        private double markSum;
+
+        private void add(Entry entry, int sign) {
+            groups += sign;
+            studentsCount += (long) sign * entry.studentsCount();
+            expelledStudents += sign * entry.expelledStudents();
+            transferredStudents += (long) sign * entry.transferredStudents();
+            markSum = groups == 0 ? 0 : markSum + sign * entry.averageMark();
+        }
+
+        private void reset() {
+            groups = studentsCount = expelledStudents = transferredStudents = 0;
+            markSum = 0;
+        }
+
+        private StudyGroupStatsDto.Totals toTotals() {
+            return new StudyGroupStatsDto.Totals(groups, studentsCount, expelledStudents, transferredStudents,
+                    groups == 0 ? 0 : markSum / groups);
+        }
+    }
+}
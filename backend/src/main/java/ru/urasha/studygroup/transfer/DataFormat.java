@@ -0,0 +1,19 @@
+package ru.urasha.studygroup.transfer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum DataFormat {
+    CSV(MediaType.parseMediaType("text/csv"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static DataFormat of(MediaType contentType) {
+        return contentType != null && CSV.mediaType.includes(contentType) ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,68 @@
+package ru.urasha.studygroup.transfer;
+
+import lombok.Getter;
+import ru.urasha.studygroup.dto.ImportJobDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Progress of one import. Written by the import worker, read by status requests.
+ */
+public class ImportJob {
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    private final DataFormat format;
+    private final int maxErrors;
+    private final List<ImportJobDto.RowError> errors = new ArrayList<>();
+
+    private ImportStatus status = ImportStatus.QUEUED;
+    private long processed;
+    private long imported;
+    private long failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+
+    public ImportJob(DataFormat format, int maxErrors) {
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public synchronized void start() {
+        status = ImportStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    public synchronized void chunkWritten(int imported, int failed) {
+        this.processed += imported + failed;
+        this.imported += imported;
+        this.failed += failed;
+    }
+
+    public synchronized void rowFailed(long row, Map<String, String> fieldErrors) {
+        if (errors.size() < maxErrors) {
+            errors.add(new ImportJobDto.RowError(row, fieldErrors));
+        }
+    }
+
+    public synchronized void complete() {
+        status = ImportStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized void fail(String message) {
+        status = ImportStatus.FAILED;
+        finishedAt = LocalDateTime.now();
+        this.message = message;
+    }
+
+    public synchronized ImportJobDto snapshot() {
+        return new ImportJobDto(id, format, status, processed, imported, failed,
+                startedAt, finishedAt, message, List.copyOf(errors));
+    }
+}
@@ -0,0 +1,8 @@
+package ru.urasha.studygroup.transfer;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
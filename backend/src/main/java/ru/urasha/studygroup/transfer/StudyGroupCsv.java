@@ -0,0 +1,42 @@
+package ru.urasha.studygroup.transfer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ru.urasha.studygroup.dto.StudyGroupCsvRow;
+
+/**
+ * CSV codec for {@link StudyGroupCsvRow}. Reading takes the columns from the header line, so
+ * files may contain any subset of them in any order; writing emits every column.
+ */
+public final class StudyGroupCsv {
+
+    private static final CsvMapper MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
+    private static final ObjectReader READER = MAPPER.readerFor(StudyGroupCsvRow.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private static final ObjectWriter WRITER = MAPPER.writerFor(StudyGroupCsvRow.class)
+            .with(MAPPER.schemaFor(StudyGroupCsvRow.class).withHeader());
+
+    private StudyGroupCsv() {
+    }
+
+    public static ObjectReader reader() {
+        return READER;
+    }
+
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+}
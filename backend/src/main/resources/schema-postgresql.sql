@@ -0,0 +1,27 @@
+create extension if not exists pg_trgm;
+
+create index if not exists study_group_name_trgm_idx on study_group using gin (lower(name) gin_trgm_ops);
+create index if not exists person_name_prefix_idx on person (lower(name) text_pattern_ops);
+-- Picker keysets: admins are read in (lower(name), id) order and coordinates grouped in (x, y)
+-- order straight off these indexes, so a page stops after size + 1 rows instead of sorting the table.
+create index if not exists person_name_id_idx on person (lower(name), id);
+create index if not exists coordinates_x_y_idx on coordinates (x, y);
+
+-- One (column, id) index per sortable field (StudyGroupSortField): pages and keyset windows are
+-- read in index order, and the same indexes serve range and enum filters on these columns.
+create index if not exists study_group_name_id_idx on study_group (name, id);
+create index if not exists study_group_creation_date_id_idx on study_group (creation_date, id);
+create index if not exists study_group_students_count_id_idx on study_group (students_count, id);
+create index if not exists study_group_expelled_students_id_idx on study_group (expelled_students, id);
+create index if not exists study_group_transferred_students_id_idx on study_group (transferred_students, id);
+create index if not exists study_group_should_be_expelled_id_idx on study_group (should_be_expelled, id);
+create index if not exists study_group_average_mark_id_idx on study_group (average_mark, id);
+create index if not exists study_group_semester_enum_id_idx on study_group (semester_enum, id);
+create index if not exists study_group_form_of_education_id_idx on study_group (form_of_education, id);
+
+-- Tables created before the switch from identity to pooled sequences keep their ids;
+-- move each sequence past them so new allocations cannot collide.
+select setval('study_group_seq', greatest((select last_value from study_group_seq), (select coalesce(max(id), 0) + 50 from study_group)));
+select setval('coordinates_seq', greatest((select last_value from coordinates_seq), (select coalesce(max(id), 0) + 50 from coordinates)));
+select setval('person_seq', greatest((select last_value from person_seq), (select coalesce(max(id), 0) + 50 from person)));
+select setval('location_seq', greatest((select last_value from location_seq), (select coalesce(max(id), 0) + 50 from location)));
@@ -0,0 +1,132 @@
+package ru.urasha.studygroup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.services.SpecialOpsService;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private SpecialOpsService specialOpsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void detailIsNotResentUntilTheGroupChanges() throws Exception {
+        StudyGroup group = studyGroupService.create(StudyGroupFixtures.group("etag-detail", 5, "etag-admin"));
+        String url = "/api/groups/" + group.getId();
+
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        specialOpsService.expelAllStudents(group.getId());
+
+        String changed = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    void changeEventsCarryTheVersionTheUpdateCommitsWith() {
+        StudyGroup group = studyGroupService.create(StudyGroupFixtures.group("etag-event", 5, "etag-admin"));
+        long created = group.getVersion();
+
+        StudyGroup updated = studyGroupService.update(group.getId(),
+                StudyGroupFixtures.group("etag-event", 6, "etag-admin"));
+
+        List<Long> versions = events.stream(StudyGroupChangedEvent.class)
+                .flatMap(event -> event.groups().stream())
+                .map(StudyGroupSummaryDto::version)
+                .toList();
+        assertThat(updated.getVersion()).isGreaterThan(created);
+        assertThat(versions).containsExactly(created, updated.getVersion());
+    }
+
+    @Test
+    void editingOnlyTheAdminChangesTheDetailTag() throws Exception {
+        StudyGroup group = studyGroupService.create(StudyGroupFixtures.group("etag-child", 5, "etag-admin"));
+        String url = "/api/groups/" + group.getId();
+
+        MockHttpServletResponse response = mockMvc.perform(get(url)).andReturn().getResponse();
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        ObjectNode body = (ObjectNode) objectMapper.readTree(response.getContentAsString());
+        ((ObjectNode) body.get("groupAdmin")).put("name", "etag-admin-renamed");
+
+        mockMvc.perform(put(url).contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+                .andExpect(status().isOk());
+
+        String changed = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupAdmin.name").value("etag-admin-renamed"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    void listIsNotResentUntilAnyGroupChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/groups").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+
+        mockMvc.perform(get("/api/groups").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        studyGroupService.create(StudyGroupFixtures.group("etag-list", 5, "etag-admin"));
+
+        List<String> changed = mockMvc.perform(get("/api/groups").param("size", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeaders(HttpHeaders.ETAG);
+        assertThat(changed).hasSize(1).doesNotContain(etag);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.urasha.studygroup;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exposesRequestRepositoryPoolAndPersistenceMetrics() throws Exception {
+        studyGroupService.create(StudyGroupFixtures.group("metrics", 3, "metrics-admin"));
+        mockMvc.perform(get("/api/groups").param("size", "5")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/groups\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total")
+                .contains("studygroup_jpa_session_entities_count")
+                .contains("studygroup_notifications_views");
+    }
+
+    @Test
+    void readOnlyRequestsRecordTheirPersistenceContextSize() throws Exception {
+        StudyGroup group = studyGroupService.create(StudyGroupFixtures.group("metrics-read", 3, "metrics-admin"));
+        DistributionSummary entities = meterRegistry.get("studygroup.jpa.session.entities").summary();
+        long sessions = entities.count();
+        double total = entities.totalAmount();
+
+        // Nothing is written, so nothing is flushed; the group, its coordinates, admin and location are loaded.
+        mockMvc.perform(get("/api/groups/{id}", group.getId())).andExpect(status().isOk());
+
+        assertThat(entities.count()).isGreaterThan(sessions);
+        assertThat(entities.totalAmount() - total).isGreaterThanOrEqualTo(4);
+    }
+}
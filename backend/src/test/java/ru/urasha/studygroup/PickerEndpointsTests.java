@@ -0,0 +1,141 @@
+package ru.urasha.studygroup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PickerEndpointsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Test
+    void personsArePagedDistinctAndFilteredByPrefix() throws Exception {
+        studyGroupService.create(StudyGroupFixtures.group("picker-1", 3, "Picker_Admin"));
+        studyGroupService.create(StudyGroupFixtures.group("picker-2", 3, "Picker_Admin"));
+        studyGroupService.create(StudyGroupFixtures.group("picker-3", 3, "PickerXAdmin"));
+
+        mockMvc.perform(get("/api/persons").param("prefix", "picker_").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name").value("Picker_Admin"))
+                .andExpect(jsonPath("$.content[0].locationZ").value(3.0))
+                .andExpect(jsonPath("$.content[0].nameKey").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/api/persons").param("prefix", "PICKER").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isString());
+    }
+
+    @Test
+    void personCursorsWalkEveryAdminOnce() throws Exception {
+        String prefix = "walk-" + UUID.randomUUID().toString().substring(0, 8);
+        for (String name : List.of("b", "A", "a", "c")) {
+            studyGroupService.create(StudyGroupFixtures.group(prefix + "-g-" + name, 3, prefix + name));
+        }
+
+        List<String> names = walk(() -> get("/api/persons").param("prefix", prefix), "name");
+
+        // Same lower-cased name ties on id; "A" and "a" are different admins and both appear.
+        assertThat(names).hasSize(4);
+        assertThat(names.subList(0, 2)).containsExactlyInAnyOrder(prefix + "A", prefix + "a");
+        assertThat(names.subList(2, 4)).containsExactly(prefix + "b", prefix + "c");
+
+        mockMvc.perform(get("/api/persons").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void coordinateCursorsWalkDistinctPairsInOrder() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            studyGroupService.create(StudyGroupFixtures.group("picker-w" + i, 3, "coords-admin"));
+        }
+
+        List<String> pairs = walk(() -> get("/api/coordinates"), "x", "y");
+
+        assertThat(pairs).doesNotHaveDuplicates().contains("1.5/10");
+    }
+
+    @Test
+    void coordinatesAreDistinctAndFilterable() throws Exception {
+        studyGroupService.create(StudyGroupFixtures.group("picker-c1", 3, "coords-admin"));
+        studyGroupService.create(StudyGroupFixtures.group("picker-c2", 3, "coords-admin"));
+
+        mockMvc.perform(get("/api/coordinates").param("x", "1.5").param("y", "10").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].x").value(1.5))
+                .andExpect(jsonPath("$.content[0].y").value(10));
+
+    }
+
+    @Test
+    void pickersWithoutSizeReturnADefaultPage() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            studyGroupService.create(StudyGroupFixtures.group("picker-d" + i, 3, "picker-default-" + i));
+        }
+
+        mockMvc.perform(get("/api/persons").param("prefix", "picker-default-"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.content", hasSize(20)))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        mockMvc.perform(get("/api/coordinates"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.content").isArray());
+    }
+
+    private List<String> walk(Supplier<MockHttpServletRequestBuilder> first, String... fields) throws Exception {
+        List<String> rows = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = first.get().param("size", "1");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("content").forEach(row -> rows.add(Arrays.stream(fields)
+                    .map(field -> row.get(field).asText())
+                    .collect(Collectors.joining("/"))));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return rows;
+    }
+}
@@ -0,0 +1,82 @@
+package ru.urasha.studygroup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.services.SpecialOpsService;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SpecialOpsConcurrencyTests {
+
+    private static final int GROUPS = 4;
+    private static final int STUDENTS_PER_GROUP = 100;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private SpecialOpsService specialOpsService;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Test
+    void parallelTransfersAndExpelsDoNotLoseStudents() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < GROUPS; i++) {
+            ids.add(studyGroupService.create(
+                    StudyGroupFixtures.group("concurrency-" + i, STUDENTS_PER_GROUP, "concurrency-admin-" + i)).getId());
+        }
+        long before = studentsAndExpelled(ids);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int op = 0; op < OPERATIONS_PER_THREAD; op++) {
+                    Integer from = ids.get(random.nextInt(GROUPS));
+                    Integer to = ids.get(random.nextInt(GROUPS));
+                    if (from.equals(to)) {
+                        specialOpsService.expelAllStudents(from);
+                    } else {
+                        specialOpsService.transferAllStudents(from, to);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(studentsAndExpelled(ids)).isEqualTo(before);
+    }
+
+    /**
+     * Transfers move students between groups and expels move them to the expelled counter,
+     * so this sum is invariant unless an update is lost.
+     */
+    private long studentsAndExpelled(List<Integer> ids) {
+        return studyGroupRepository.findAllById(ids).stream()
+                .mapToLong(group -> group.getStudentsCount() + group.getExpelledStudents())
+                .sum();
+    }
+}
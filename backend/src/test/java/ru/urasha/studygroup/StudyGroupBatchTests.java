@@ -0,0 +1,136 @@
+package ru.urasha.studygroup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.urasha.studygroup.dto.StudyGroupBatchUpdateDto;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudyGroupBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Test
+    void createWritesValidItemsAndReportsTheRestByIndex() throws Exception {
+        StudyGroupDto invalid = StudyGroupFixtures.group(" ", 3, "batch-admin");
+
+        mockMvc.perform(post("/api/groups/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Arrays.asList(
+                                StudyGroupFixtures.group("batch-valid", 3, "batch-admin"), invalid, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].id").isNumber())
+                .andExpect(jsonPath("$.items[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[1].fieldErrors.name").exists())
+                .andExpect(jsonPath("$.items[2].index").value(2))
+                .andExpect(jsonPath("$.items[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[2].fieldErrors.item").value("must not be null"));
+    }
+
+    @Test
+    void createRejectsANullItemWithoutFailingTheRequest() throws Exception {
+        mockMvc.perform(post("/api/groups/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(0))
+                .andExpect(jsonPath("$.items[0].status").value("INVALID"));
+    }
+
+    @Test
+    void updateAppliesEachIdOnceAndReportsNullAndMissingItems() throws Exception {
+        StudyGroup group = studyGroupService.create(StudyGroupFixtures.group("batch-update", 3, "batch-admin"));
+        Integer missing = Integer.MAX_VALUE;
+
+        mockMvc.perform(put("/api/groups/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Arrays.asList(
+                                new StudyGroupBatchUpdateDto(group.getId(),
+                                        StudyGroupFixtures.group("batch-first", 4, "batch-admin")),
+                                new StudyGroupBatchUpdateDto(group.getId(),
+                                        StudyGroupFixtures.group("batch-second", 5, "batch-admin")),
+                                null,
+                                new StudyGroupBatchUpdateDto(missing,
+                                        StudyGroupFixtures.group("batch-missing", 5, "batch-admin"))))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.items[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.items[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.items[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[3].status").value("NOT_FOUND"));
+
+        assertThat(studyGroupRepository.findById(group.getId())).get()
+                .extracting(StudyGroup::getName).isEqualTo("batch-first");
+    }
+
+    @Test
+    void deleteCountsOnlyTheGroupsThatExisted() throws Exception {
+        StudyGroup first = studyGroupService.create(StudyGroupFixtures.group("batch-delete-1", 3, "batch-admin"));
+        StudyGroup second = studyGroupService.create(StudyGroupFixtures.group("batch-delete-2", 3, "batch-admin"));
+        StudyGroup kept = studyGroupService.create(StudyGroupFixtures.group("batch-delete-3", 3, "batch-admin"));
+
+        mockMvc.perform(delete("/api/groups/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Arrays.asList(first.getId(), Integer.MAX_VALUE, second.getId(),
+                                first.getId(), null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        assertThat(studyGroupRepository.existsById(first.getId())).isFalse();
+        assertThat(studyGroupRepository.existsById(second.getId())).isFalse();
+        assertThat(studyGroupRepository.existsById(kept.getId())).isTrue();
+    }
+
+    @Test
+    void deletingAnEmptyListDeletesNothing() throws Exception {
+        long before = studyGroupRepository.count();
+
+        mockMvc.perform(delete("/api/groups/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(0));
+
+        assertThat(studyGroupRepository.count()).isEqualTo(before);
+    }
+
+    private String json(List<?> items) throws Exception {
+        return objectMapper.writeValueAsString(items);
+    }
+}
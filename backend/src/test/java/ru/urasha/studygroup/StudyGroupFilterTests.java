@@ -0,0 +1,81 @@
+package ru.urasha.studygroup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudyGroupFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Test
+    void combinesRangeEnumAndAdminCriteria() throws Exception {
+        create("filter-a", 10, 4.5, Semester.SECOND, FormOfEducation.FULL_TIME_EDUCATION);
+        create("filter-b", 20, 3.0, Semester.SIXTH, FormOfEducation.EVENING_CLASSES);
+        create("filter-c", 30, 4.0, Semester.SIXTH, FormOfEducation.FULL_TIME_EDUCATION);
+        create("filter-d", 40, 5.0, Semester.EIGHTH, FormOfEducation.DISTANCE_EDUCATION);
+
+        mockMvc.perform(get("/api/groups").param("adminName", "FILTER_admin")
+                        .param("minStudentsCount", "15").param("maxStudentsCount", "40")
+                        .param("minAverageMark", "3.5")
+                        .param("semesterEnum", "SIXTH", "EIGHTH")
+                        .param("fields", "name").param("sort", "studentsCount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(containsInAnyOrder("filter-c", "filter-d")))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(get("/api/groups").param("adminName", "filter_admin")
+                        .param("formOfEducation", "FULL_TIME_EDUCATION")
+                        .param("createdFrom", LocalDate.now().toString())
+                        .param("mode", "KEYSET").param("sort", "averageMark"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name").value(containsInAnyOrder("filter-a", "filter-c")));
+
+        mockMvc.perform(get("/api/groups").param("adminName", "filter_admin")
+                        .param("createdTo", LocalDate.now().minusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void rejectsSortingOnFieldsOutsideTheWhitelist() throws Exception {
+        mockMvc.perform(get("/api/groups").param("sort", "groupAdmin"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("groupAdmin")));
+
+        mockMvc.perform(get("/api/groups").param("sort", "formOfEducation").param("mode", "KEYSET"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void create(String name, int studentsCount, double averageMark, Semester semester,
+                        FormOfEducation form) {
+        StudyGroupDto dto = StudyGroupFixtures.group(name, studentsCount, "filter_admin-" + name);
+        dto.setAverageMark(averageMark);
+        dto.setSemesterEnum(semester);
+        dto.setFormOfEducation(form);
+        studyGroupService.create(dto);
+    }
+}
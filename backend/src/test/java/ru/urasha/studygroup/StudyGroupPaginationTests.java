@@ -0,0 +1,155 @@
+package ru.urasha.studygroup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudyGroupPaginationTests {
+
+    private static final int GROUPS = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    private String prefix;
+
+    @BeforeEach
+    void createGroups() {
+        prefix = "page-" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < GROUPS; i++) {
+            // Three distinct sort values, so pages have to break ties on id.
+            studyGroupService.create(StudyGroupFixtures.group(prefix + "-" + i, 10 + i % 3, prefix + "-admin"));
+        }
+    }
+
+    @Test
+    void keysetCursorsWalkAllRowsInBothDirectionsAcrossTies() throws Exception {
+        List<Integer> ascending = walk(true);
+        List<Integer> descending = walk(false);
+
+        assertThat(ascending).hasSize(GROUPS).doesNotHaveDuplicates();
+        Collections.reverse(descending);
+        assertThat(descending).isEqualTo(ascending);
+    }
+
+    @Test
+    void rejectsMalformedOrMismatchedCursors() throws Exception {
+        mockMvc.perform(keyset(true).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        String cursor = page(keyset(true).param("size", "2")).get("nextCursor").asText();
+        mockMvc.perform(keyset(false).param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void countModesReportTotalsAsRequested() throws Exception {
+        mockMvc.perform(list().param("size", "3"))
+                .andExpect(jsonPath("$.totalElements").value(GROUPS))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(list().param("size", "3").param("count", "NONE"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        // Only PostgreSQL can estimate; a filtered request is always counted exactly.
+        mockMvc.perform(list().param("size", "3").param("count", "ESTIMATED"))
+                .andExpect(jsonPath("$.totalElements").value(GROUPS))
+                .andExpect(jsonPath("$.totalEstimated").value(false));
+    }
+
+    @Test
+    void rejectsOutOfRangePagesAndClampsLargeSizes() throws Exception {
+        for (String size : List.of("0", "-1", "-5")) {
+            mockMvc.perform(keyset(true).param("size", size)).andExpect(status().isBadRequest());
+            mockMvc.perform(list().param("size", size)).andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(list().param("page", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(list().param("fields", "name").param("page", "300000000"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(list().param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(100));
+    }
+
+    @Test
+    void adminNamePagesRejectOutOfRangeRequestsAndClampLargeSizes() throws Exception {
+        for (String size : List.of("0", "-1")) {
+            mockMvc.perform(adminNames().param("page", "0").param("size", size)).andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(adminNames().param("page", "-1")).andExpect(status().isBadRequest());
+        // 30_000_000 * 100 overflows an int offset.
+        mockMvc.perform(adminNames().param("page", "30000000").param("size", "100"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(adminNames().param("page", "0").param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(100))
+                .andExpect(jsonPath("$.content[0]").value(prefix + "-admin"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    private List<Integer> walk(boolean ascending) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = keyset(ascending).param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = page(request);
+            page.get("content").forEach(group -> ids.add(group.get("id").asInt()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private MockHttpServletRequestBuilder keyset(boolean ascending) {
+        return list().param("mode", "KEYSET").param("sort", "studentsCount")
+                .param("asc", Boolean.toString(ascending));
+    }
+
+    private MockHttpServletRequestBuilder adminNames() {
+        return get("/api/groups/special/unique-admins").param("prefix", prefix);
+    }
+
+    private MockHttpServletRequestBuilder list() {
+        return get("/api/groups").param("nameContains", prefix);
+    }
+}
@@ -0,0 +1,145 @@
+package ru.urasha.studygroup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.StudyGroupRepository;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.SqlStatementCounter;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.urasha.studygroup.support.SqlStatementCounter")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudyGroupQueryCountTests {
+
+    private static final int GROUPS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seed() {
+        for (long i = studyGroupRepository.count(); i < GROUPS; i++) {
+            studyGroupService.create(StudyGroupFixtures.group("query-count-" + i, 5, "admin-" + i));
+        }
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void listPageWithoutCountIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/groups").param("size", "100").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void listPageWithExactCountAddsOnlyCountStatement() throws Exception {
+        mockMvc.perform(get("/api/groups").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void keysetPageIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/groups").param("size", "100").param("mode", "KEYSET").param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void deepKeysetPageStartsAtTheCursorInTheSortIndex() throws Exception {
+        // The production index from schema-postgresql.sql; the H2 test schema is generated without it.
+        jdbcTemplate.execute("create index if not exists study_group_name_id_idx on study_group (name, id)");
+        String first = mockMvc.perform(get("/api/groups").param("size", "100").param("mode", "KEYSET")
+                        .param("sort", "name").param("asc", "false"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(first).get("nextCursor").asText();
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(get("/api/groups").param("size", "10").param("mode", "KEYSET")
+                        .param("sort", "name").param("asc", "false").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        String plan = jdbcTemplate.queryForObject("explain " + SqlStatementCounter.last(), String.class);
+        assertThat(plan).containsPattern("(?i)study_group_name_id_idx: name <= \\?");
+    }
+
+    @Test
+    void detailIsSingleStatement() throws Exception {
+        StudyGroup group = studyGroupRepository.findAll().get(0);
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(get("/api/groups/{id}", group.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupAdmin.location.y").value(2));
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void transferLocksMovesAndReloadsInThreeStatements() throws Exception {
+        StudyGroup from = studyGroupService.create(StudyGroupFixtures.group("query-count-from", 7, "admin-from"));
+        StudyGroup to = studyGroupService.create(StudyGroupFixtures.group("query-count-to", 3, "admin-to"));
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(post("/api/groups/special/transfer")
+                        .param("fromId", from.getId().toString())
+                        .param("toId", to.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from.studentsCount").value(0))
+                .andExpect(jsonPath("$.from.transferredStudents").value(from.getTransferredStudents() + 7))
+                .andExpect(jsonPath("$.to.studentsCount").value(10));
+
+        // Lock and read head count, move, reload both; the fourth is the outbox row.
+        assertThat(SqlStatementCounter.count()).isEqualTo(4);
+    }
+
+    @Test
+    void searchIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/groups/special/search").param("substring", "query-count-1"))
+                .andExpect(status().isOk());
+
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.urasha.studygroup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against the in-memory trigram index, which the test profile selects.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudyGroupSearchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Test
+    void matchesAnywhereInTheNameIgnoringCaseInIdOrder() throws Exception {
+        String token = token();
+        StudyGroup suffix = create("alpha-" + token.toUpperCase(Locale.ROOT));
+        StudyGroup prefix = create(token + "-beta");
+        StudyGroup middle = create("gamma" + token + "delta");
+
+        // Matches are not ranked by position; every match is returned in id order.
+        search(token.toUpperCase(Locale.ROOT))
+                .andExpect(jsonPath("$[*].id").value(contains(suffix.getId(), prefix.getId(), middle.getId())));
+        search(token.substring(2, 8))
+                .andExpect(jsonPath("$[*].id").value(contains(suffix.getId(), prefix.getId(), middle.getId())));
+        search(token + "-b")
+                .andExpect(jsonPath("$[*].id").value(contains(prefix.getId())));
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() throws Exception {
+        String token = token();
+        StudyGroup renamed = create("renamed-" + token);
+        StudyGroup deleted = create("deleted-" + token);
+        StudyGroup kept = create("kept-" + token);
+
+        studyGroupService.update(renamed.getId(), StudyGroupFixtures.group("renamed-elsewhere", 3, "search-admin"));
+        studyGroupService.delete(deleted.getId());
+
+        search(token).andExpect(jsonPath("$[*].id").value(contains(kept.getId())));
+        search("renamed-else").andExpect(jsonPath("$[*].id").value(contains(renamed.getId())));
+        search("deleted-" + token).andExpect(jsonPath("$").value(empty()));
+    }
+
+    private ResultActions search(String substring) throws Exception {
+        return mockMvc.perform(get("/api/groups/special/search").param("substring", substring))
+                .andExpect(status().isOk());
+    }
+
+    private StudyGroup create(String name) {
+        return studyGroupService.create(StudyGroupFixtures.group(name, 3, "search-admin"));
+    }
+
+    private static String token() {
+        return "s" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+    }
+}
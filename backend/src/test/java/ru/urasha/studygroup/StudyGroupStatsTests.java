@@ -0,0 +1,84 @@
+package ru.urasha.studygroup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.dto.StudyGroupStatsDto;
+import ru.urasha.studygroup.models.FormOfEducation;
+import ru.urasha.studygroup.models.Semester;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.services.SpecialOpsService;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.services.StudyGroupStatsService;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StudyGroupStatsTests {
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private SpecialOpsService specialOpsService;
+
+    @Autowired
+    private StudyGroupStatsService statsService;
+
+    @Test
+    void statisticsFollowWritesWithoutRescan() {
+        StudyGroupStatsDto.Totals before = bucket(Semester.SEVENTH, FormOfEducation.EVENING_CLASSES);
+
+        StudyGroup group = studyGroupService.create(evening("stats-a", 12));
+        studyGroupService.create(evening("stats-b", 8));
+
+        StudyGroupStatsDto.Totals created = bucket(Semester.SEVENTH, FormOfEducation.EVENING_CLASSES);
+        assertThat(created.groups()).isEqualTo(before.groups() + 2);
+        assertThat(created.studentsCount()).isEqualTo(before.studentsCount() + 20);
+
+        specialOpsService.expelAllStudents(group.getId());
+
+        StudyGroupStatsDto.Totals expelled = bucket(Semester.SEVENTH, FormOfEducation.EVENING_CLASSES);
+        assertThat(expelled.studentsCount()).isEqualTo(before.studentsCount() + 8);
+        assertThat(expelled.expelledStudents()).isEqualTo(created.expelledStudents() + 12);
+
+        studyGroupService.delete(group.getId());
+
+        StudyGroupStatsDto.Totals deleted = bucket(Semester.SEVENTH, FormOfEducation.EVENING_CLASSES);
+        assertThat(deleted.groups()).isEqualTo(before.groups() + 1);
+        assertThat(deleted.studentsCount()).isEqualTo(before.studentsCount() + 8);
+    }
+
+    @Test
+    void updateMovesGroupBetweenBuckets() {
+        StudyGroup group = studyGroupService.create(evening("stats-move", 4));
+        long evening = bucket(Semester.SEVENTH, FormOfEducation.EVENING_CLASSES).groups();
+        long distance = bucket(Semester.SEVENTH, FormOfEducation.DISTANCE_EDUCATION).groups();
+
+        StudyGroupDto moved = evening("stats-move", 4);
+        moved.setFormOfEducation(FormOfEducation.DISTANCE_EDUCATION);
+        studyGroupService.update(group.getId(), moved);
+
+        assertThat(bucket(Semester.SEVENTH, FormOfEducation.EVENING_CLASSES).groups()).isEqualTo(evening - 1);
+        assertThat(bucket(Semester.SEVENTH, FormOfEducation.DISTANCE_EDUCATION).groups()).isEqualTo(distance + 1);
+    }
+
+    private StudyGroupStatsDto.Totals bucket(Semester semester, FormOfEducation form) {
+        return statsService.stats().buckets().stream()
+                .filter(bucket -> bucket.semester() == semester && bucket.formOfEducation() == form)
+                .map(StudyGroupStatsDto.Bucket::totals)
+                .findFirst()
+                .orElse(new StudyGroupStatsDto.Totals(0, 0, 0, 0, 0));
+    }
+
+    private static StudyGroupDto evening(String name, int studentsCount) {
+        StudyGroupDto dto = StudyGroupFixtures.group(name, studentsCount, name + "-admin");
+        dto.setSemesterEnum(Semester.SEVENTH);
+        dto.setFormOfEducation(FormOfEducation.EVENING_CLASSES);
+        return dto;
+    }
+}
@@ -0,0 +1,280 @@
+package ru.urasha.studygroup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.urasha.studygroup.config.BatchProperties;
+import ru.urasha.studygroup.config.ImportProperties;
+import ru.urasha.studygroup.dto.BatchItemResultDto;
+import ru.urasha.studygroup.dto.BatchResultDto;
+import ru.urasha.studygroup.dto.ImportJobDto;
+import ru.urasha.studygroup.dto.StudyGroupCsvRow;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.services.StudyGroupBatchService;
+import ru.urasha.studygroup.mappers.StudyGroupMapper;
+import ru.urasha.studygroup.services.StudyGroupExportService;
+import ru.urasha.studygroup.services.StudyGroupImportService;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.Await;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+import ru.urasha.studygroup.transfer.DataFormat;
+import ru.urasha.studygroup.transfer.ImportStatus;
+import ru.urasha.studygroup.transfer.StudyGroupCsv;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudyGroupTransferTests {
+
+    // Assigned by the database on import, so they cannot survive a round trip.
+    private static final Set<String> GENERATED = Set.of("id", "version", "creationDate", "lastModified");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private StudyGroupBatchService batchService;
+
+    @Autowired
+    private StudyGroupExportService exportService;
+
+    @Autowired
+    private StudyGroupMapper studyGroupMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @EnumSource(DataFormat.class)
+    void exportedGroupsImportBackUnchanged(DataFormat format) throws Exception {
+        String prefix = "transfer-" + UUID.randomUUID().toString().substring(0, 8);
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            StudyGroupDto dto = StudyGroupFixtures.group(prefix + "-" + i, 2 + i, prefix + "-admin-" + i);
+            dto.setAverageMark(3.5 + i);
+            ids.add(studyGroupService.create(dto).getId());
+        }
+        String exported = rowsOf(format, export(format), prefix);
+        Set<JsonNode> before = parse(format, exported);
+        assertThat(before).hasSize(3);
+
+        studyGroupService.deleteAll(ids);
+        ImportJobDto job = importAndWait(format, exported);
+
+        assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.imported()).isEqualTo(3);
+        assertThat(job.failed()).isZero();
+        assertThat(parse(format, rowsOf(format, export(format), prefix))).isEqualTo(before);
+    }
+
+    @Test
+    void malformedRowsAreRejectedWithTheirRowNumbers() throws Exception {
+        String valid = objectMapper.writeValueAsString(StudyGroupFixtures.group("transfer-valid", 3, "admin"));
+        String blankName = objectMapper.writeValueAsString(StudyGroupFixtures.group(" ", 3, "admin"));
+        String body = String.join("\n", valid, "{not json", "", blankName, valid);
+
+        ImportJobDto job = importAndWait(DataFormat.NDJSON, body);
+
+        assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.processed()).isEqualTo(4);
+        assertThat(job.imported()).isEqualTo(2);
+        assertThat(job.failed()).isEqualTo(2);
+        // Blank lines are skipped without taking a row number.
+        assertThat(job.errors()).extracting(ImportJobDto.RowError::row).containsExactly(2L, 3L);
+        assertThat(job.errors().get(1).fieldErrors()).containsKey("name");
+    }
+
+    @Test
+    void rowsTheDatabaseRefusesAreReportedWithoutLosingTheRestOfTheChunk() throws Exception {
+        String prefix = "transfer-" + UUID.randomUUID().toString().substring(0, 8);
+        String first = objectMapper.writeValueAsString(StudyGroupFixtures.group(prefix + "-first", 3, "admin"));
+        // Passes validation but does not fit the name column.
+        String tooLong = objectMapper.writeValueAsString(StudyGroupFixtures.group(prefix + "x".repeat(300), 3, "admin"));
+        String last = objectMapper.writeValueAsString(StudyGroupFixtures.group(prefix + "-last", 3, "admin"));
+
+        ImportJobDto job = importAndWait(DataFormat.NDJSON, String.join("\n", first, tooLong, last));
+
+        assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.processed()).isEqualTo(3);
+        assertThat(job.imported()).isEqualTo(2);
+        assertThat(job.failed()).isEqualTo(1);
+        assertThat(job.errors()).extracting(ImportJobDto.RowError::row).containsExactly(2L);
+        assertThat(job.errors().get(0).fieldErrors()).containsKey("row");
+        assertThat(rowsOf(DataFormat.NDJSON, export(DataFormat.NDJSON), prefix).lines())
+                .hasSize(2)
+                .anyMatch(line -> line.contains(prefix + "-first"))
+                .anyMatch(line -> line.contains(prefix + "-last"));
+    }
+
+    @Test
+    void importStopsWithASummaryWhenTheDatabaseIsLost() throws Exception {
+        StudyGroupBatchService failing = mock(StudyGroupBatchService.class);
+        BatchResultDto oneCreated = new BatchResultDto(1, 0,
+                List.of(new BatchItemResultDto(0, 1, BatchItemResultDto.Status.CREATED, Map.of())));
+        when(failing.createAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("chunk"))
+                .thenReturn(oneCreated)
+                .thenThrow(new CannotCreateTransactionException("connection lost"));
+        StudyGroupImportService importService = new StudyGroupImportService(failing, studyGroupMapper, objectMapper,
+                new SyncTaskExecutor(), new ImportProperties(500, 100, 100, 2, 10), new BatchProperties(1000));
+        String row = objectMapper.writeValueAsString(StudyGroupFixtures.group("transfer-lost", 3, "admin"));
+
+        ImportJobDto job = importService.start(new ByteArrayInputStream(String.join("\n", row, row, row)
+                .getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON);
+
+        assertThat(job.status()).isEqualTo(ImportStatus.FAILED);
+        assertThat(job.imported()).isEqualTo(1);
+        assertThat(job.processed()).isEqualTo(1);
+        assertThat(job.message()).contains("row 2", "connection lost", "Rows imported before it (1) were kept");
+    }
+
+    @Test
+    void chunksLargerThanTheBatchLimitAreRejectedAtStartup() {
+        ImportProperties properties = new ImportProperties(1001, 100, 100, 2, 10);
+
+        assertThatThrownBy(() -> new StudyGroupImportService(batchService, studyGroupMapper, objectMapper,
+                new SyncTaskExecutor(), properties, new BatchProperties(1000)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("studygroup.import.chunk-size");
+    }
+
+    @Test
+    void exportStreamsRowsWithoutKeepingThemInThePersistenceContext() {
+        batchService.createAll(IntStream.range(0, 200)
+                .mapToObj(i -> StudyGroupFixtures.group("transfer-stream-" + i, 3, "stream-admin"))
+                .toList());
+        AtomicInteger mostManaged = new AtomicInteger();
+        AtomicInteger bytes = new AtomicInteger();
+        OutputStream probe = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                // Called on the export thread, inside its transaction, each time a buffer is flushed.
+                int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+                mostManaged.accumulateAndGet(managed, Math::max);
+                bytes.addAndGet(len);
+            }
+        };
+
+        exportService.export(DataFormat.NDJSON, probe);
+
+        assertThat(bytes.get()).isGreaterThan(200 * 100);
+        // One group and its coordinates, admin and location at a time, not the whole table.
+        assertThat(mostManaged.get()).isBetween(1, 8);
+    }
+
+    private String export(DataFormat format) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/groups/export").param("format", format.name()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The exported rows of this test's groups, with the CSV header kept so they can be imported.
+     */
+    private static String rowsOf(DataFormat format, String export, String prefix) {
+        List<String> lines = export.lines().toList();
+        Stream<String> header = format == DataFormat.CSV ? Stream.of(lines.get(0)) : Stream.empty();
+        return Stream.concat(header, lines.stream().filter(line -> line.contains(prefix)))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private ImportJobDto importAndWait(DataFormat format, String body) throws Exception {
+        String response = mockMvc.perform(post("/api/groups/import")
+                        .param("format", format.name())
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").isString())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(response).get("id").asText();
+
+        AtomicReference<ImportJobDto> job = new AtomicReference<>();
+        Await.until(() -> {
+            try {
+                job.set(objectMapper.readValue(mockMvc.perform(get("/api/groups/import/{id}", id))
+                        .andReturn().getResponse().getContentAsString(), ImportJobDto.class));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return job.get().status() == ImportStatus.COMPLETED || job.get().status() == ImportStatus.FAILED;
+        });
+        return job.get();
+    }
+
+    private Set<JsonNode> parse(DataFormat format, String rows) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        if (format == DataFormat.CSV) {
+            try (MappingIterator<StudyGroupCsvRow> iterator = StudyGroupCsv.reader().readValues(rows)) {
+                iterator.forEachRemaining(row -> nodes.add(objectMapper.valueToTree(row)));
+            }
+        } else {
+            for (String row : rows.split("\n")) {
+                nodes.add(objectMapper.readTree(row));
+            }
+        }
+        nodes.forEach(StudyGroupTransferTests::strip);
+        return new HashSet<>(nodes);
+    }
+
+    private static void strip(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.remove(GENERATED);
+            object.elements().forEachRemaining(StudyGroupTransferTests::strip);
+        }
+    }
+}
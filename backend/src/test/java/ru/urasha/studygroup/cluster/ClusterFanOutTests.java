@@ -0,0 +1,126 @@
+package ru.urasha.studygroup.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import ru.urasha.studygroup.StudygroupApplication;
+import ru.urasha.studygroup.dto.StudyGroupChangeDto;
+import ru.urasha.studygroup.events.StudyGroupChangeLog;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.services.StudyGroupStatsService;
+import ru.urasha.studygroup.support.Await;
+import ru.urasha.studygroup.support.InJvmClusterEventBus;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application nodes against the same database, joined by an in-JVM bus.
+ */
+class ClusterFanOutTests {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void changesOnOneNodeReachTheOtherNodesChangeLog() throws InterruptedException {
+        long before = changeLog(nodeB).latest();
+
+        StudyGroup group = service(nodeA).create(StudyGroupFixtures.group("cluster-created", 5, "cluster-admin"));
+
+        Await.until(() -> changeLog(nodeB).since(before).changes().stream()
+                .anyMatch(change -> change.id().equals(group.getId())));
+        List<StudyGroupChangeDto> changes = changeLog(nodeB).since(before).changes();
+        assertThat(changes).extracting(StudyGroupChangeDto::id).contains(group.getId());
+        assertThat(changes).filteredOn(change -> change.id().equals(group.getId()))
+                .extracting(StudyGroupChangeDto::type)
+                .containsExactly(EventType.CREATED);
+    }
+
+    @Test
+    void changesOnOneNodeEvictTheOtherNodesCache() throws InterruptedException {
+        StudyGroup group = service(nodeA).create(StudyGroupFixtures.group("cluster-before", 5, "cluster-admin"));
+        assertThat(service(nodeB).get(group.getId())).get()
+                .extracting(StudyGroup::getName).isEqualTo("cluster-before");
+
+        service(nodeA).update(group.getId(), StudyGroupFixtures.group("cluster-after", 5, "cluster-admin"));
+
+        Await.until(() -> service(nodeB).get(group.getId())
+                .map(StudyGroup::getName)
+                .filter("cluster-after"::equals)
+                .isPresent());
+    }
+
+    @Test
+    void aNodeThatMissedChangesWhileDisconnectedResyncsOnReconnect() throws InterruptedException {
+        long before = changeLog(nodeB).latest();
+        StudyGroup group = service(nodeA).create(StudyGroupFixtures.group("cluster-missed", 5, "cluster-admin"));
+        Await.until(() -> changeLog(nodeB).since(before).changes().stream()
+                .anyMatch(change -> change.id().equals(group.getId())));
+        assertThat(service(nodeB).get(group.getId())).isPresent();
+        long groupsBefore = stats(nodeB).stats().total().groups();
+        InJvmClusterEventBus busB = nodeB.getBean(InJvmClusterEventBus.class);
+
+        busB.disconnect();
+        try {
+            service(nodeA).update(group.getId(), StudyGroupFixtures.group("cluster-missed-renamed", 5, "cluster-admin"));
+            service(nodeA).create(StudyGroupFixtures.group("cluster-missed-created", 5, "cluster-admin"));
+            assertThat(service(nodeB).get(group.getId())).get()
+                    .extracting(StudyGroup::getName).isEqualTo("cluster-missed");
+        } finally {
+            busB.reconnect();
+        }
+
+        assertThat(service(nodeB).get(group.getId())).get()
+                .extracting(StudyGroup::getName).isEqualTo("cluster-missed-renamed");
+        assertThat(stats(nodeB).stats().total().groups()).isEqualTo(groupsBefore + 1);
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(StudygroupApplication.class, SharedBusConfig.class)
+                .profiles("test")
+                .run("--server.port=0");
+    }
+
+    private static StudyGroupService service(ConfigurableApplicationContext node) {
+        return node.getBean(StudyGroupService.class);
+    }
+
+    private static StudyGroupStatsService stats(ConfigurableApplicationContext node) {
+        return node.getBean(StudyGroupStatsService.class);
+    }
+
+    private static StudyGroupChangeLog changeLog(ConfigurableApplicationContext node) {
+        return node.getBean(StudyGroupChangeLog.class);
+    }
+
+    static class SharedBusConfig {
+
+        @Bean
+        @Primary
+        ClusterEventBus inJvmClusterEventBus(ClusterEventDispatcher dispatcher, ObjectMapper objectMapper) {
+            return new InJvmClusterEventBus(dispatcher, objectMapper);
+        }
+    }
+}
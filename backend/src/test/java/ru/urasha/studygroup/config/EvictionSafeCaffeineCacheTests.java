@@ -0,0 +1,42 @@
+package ru.urasha.studygroup.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvictionSafeCaffeineCacheTests {
+
+    private final EvictionSafeCaffeineCache cache =
+            new EvictionSafeCaffeineCache("groups", Caffeine.newBuilder().build(), true);
+
+    @Test
+    void storesLoadedValues() {
+        assertThat(cache.get(1, () -> "loaded")).isEqualTo("loaded");
+
+        assertThat(cache.get(1, () -> "reloaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    void doesNotStoreAValueLoadedAcrossAnEviction() {
+        // The load read the row, then a commit evicted it before the load finished.
+        String stale = cache.get(1, () -> {
+            cache.evict(1);
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void doesNotStoreAValueLoadedAcrossAClear() {
+        cache.get(2, () -> {
+            cache.clear();
+            return "stale";
+        });
+
+        assertThat(cache.get(2)).isNull();
+    }
+}
@@ -0,0 +1,117 @@
+package ru.urasha.studygroup.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.GroupViewDto;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.models.Semester;
+import ru.urasha.studygroup.services.NotificationService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GroupViewRegistryTests {
+
+    private NotificationService notificationService;
+    private GroupViewRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+        StudyGroupChangeLog changeLog = new StudyGroupChangeLog(
+                new NotificationProperties(Duration.ofMillis(200), 10_000, NotificationPayload.DELTA, 100, 64));
+        registry = new GroupViewRegistry(notificationService, changeLog, new ObjectMapper());
+    }
+
+    @Test
+    void sendsOnlyChangesRelevantToEachView() {
+        registry.register("first-page", new GroupViewDto(null, List.of(1, 2, 3), "studentsCount", true, null, 30));
+        registry.register("filtered", new GroupViewDto("math", List.of(50), "id", true, null, null));
+
+        registry.route(frame(List.of(summary(4, "physics", 20), summary(60, "math-2", 90)), List.of(3)));
+
+        StudyGroupChangeBatchDto firstPage = sentTo("first-page");
+        assertThat(firstPage.updated()).containsExactly(4);
+        assertThat(firstPage.deleted()).containsExactly(3);
+        assertThat(firstPage.groups()).extracting(StudyGroupSummaryDto::id).containsExactly(4);
+
+        StudyGroupChangeBatchDto filtered = sentTo("filtered");
+        assertThat(filtered.updated()).containsExactly(60);
+        assertThat(filtered.deleted()).isEmpty();
+    }
+
+    @Test
+    void skipsSessionsWithNothingRelevantAndKeepsTheirSequenceContinuous() {
+        registry.register("s", new GroupViewDto(null, List.of(1), "studentsCount", true, null, 20));
+
+        registry.route(new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, 1, 1,
+                List.of(), List.of(9), List.of(), List.of(summary(9, "x", 99)), false));
+        verifyNoInteractions(notificationService);
+
+        registry.route(new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, 2, 2,
+                List.of(), List.of(1), List.of(), List.of(summary(1, "x", 15)), false));
+        assertThat(sentTo("s").fromSeq()).isEqualTo(1);
+    }
+
+    @Test
+    void deliversChangesBeforeOrLeavingAnOffsetWindow() {
+        registry.register("later-page", new GroupViewDto(null, List.of(11, 12), "studentsCount", true, 10, 20));
+
+        registry.route(new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, 1, 3,
+                List.of(5, 6), List.of(7), List.of(8),
+                List.of(summary(5, "x", 3), summary(6, "x", 25), summary(7, "x", 99)), false));
+
+        StudyGroupChangeBatchDto frame = sentTo("later-page");
+        assertThat(frame.created()).containsExactly(5);
+        assertThat(frame.updated()).containsExactly(7);
+        assertThat(frame.deleted()).containsExactly(8);
+    }
+
+    @Test
+    void deliversWhenTheSortKeyFollowsDatabaseCollation() {
+        registry.register("by-name", new GroupViewDto(null, List.of(1), "name", true, null, "b"));
+
+        registry.route(new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, 1, 1,
+                List.of(9), List.of(), List.of(), List.of(summary(9, "Z", 1)), false));
+
+        assertThat(sentTo("by-name").created()).containsExactly(9);
+    }
+
+    @Test
+    void forgetsDisconnectedSessions() {
+        registry.register("s", new GroupViewDto(null, List.of(1), null, null, null, null));
+
+        registry.onDisconnect(new SessionDisconnectEvent(
+                this, MessageBuilder.withPayload(new byte[0]).build(), "s", CloseStatus.NORMAL));
+
+        assertThat(registry.size()).isZero();
+    }
+
+    private StudyGroupChangeBatchDto sentTo(String sessionId) {
+        ArgumentCaptor<Object> frame = ArgumentCaptor.forClass(Object.class);
+        verify(notificationService).sendToSession(eq(sessionId), frame.capture());
+        return (StudyGroupChangeBatchDto) frame.getValue();
+    }
+
+    private static StudyGroupChangeBatchDto frame(List<StudyGroupSummaryDto> updated, List<Integer> deleted) {
+        return new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, 1, 3, List.of(),
+                updated.stream().map(StudyGroupSummaryDto::id).toList(), deleted, updated, false);
+    }
+
+    private static StudyGroupSummaryDto summary(Integer id, String name, int studentsCount) {
+        return new StudyGroupSummaryDto(id, 0, name, LocalDate.now(), studentsCount, 1, 1, 1, 1.0,
+                null, Semester.SECOND, "admin");
+    }
+}
@@ -0,0 +1,53 @@
+package ru.urasha.studygroup.events;
+
+import org.junit.jupiter.api.Test;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveIndexTests {
+
+    // The index is the set of live ids; a change adds its ids unless they were deleted.
+    private final LiveIndex<Set<Integer>> index = new LiveIndex<>(TreeSet::new, (ids, event) -> {
+        if (event.type() == EventType.DELETED) {
+            event.ids().forEach(ids::remove);
+        } else {
+            ids.addAll(event.ids());
+        }
+    });
+
+    @Test
+    void changesArrivingDuringTheScanAreReplayedOnTheFreshIndex() {
+        index.apply(new StudyGroupChangedEvent(1, EventType.CREATED));
+
+        index.rebuild(fresh -> {
+            fresh.addAll(Set.of(1, 2, 3));
+            // Committed after the scan read these rows: the scan result must not win.
+            index.apply(new StudyGroupChangedEvent(2, EventType.DELETED));
+            index.apply(new StudyGroupChangedEvent(4, EventType.CREATED));
+            assertThat(index.current()).containsExactly(1);
+        });
+
+        assertThat(index.current()).containsExactly(1, 3, 4);
+        index.apply(new StudyGroupChangedEvent(5, EventType.CREATED));
+        assertThat(index.current()).containsExactly(1, 3, 4, 5);
+    }
+
+    @Test
+    void aFailedScanKeepsTheOldIndexAndItsChanges() {
+        index.apply(new StudyGroupChangedEvent(1, EventType.CREATED));
+
+        assertThatThrownBy(() -> index.rebuild(fresh -> {
+            index.apply(new StudyGroupChangedEvent(2, EventType.CREATED));
+            throw new IllegalStateException("scan failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.current()).containsExactly(1, 2);
+        index.apply(new StudyGroupChangedEvent(3, EventType.CREATED));
+        assertThat(index.current()).containsExactly(1, 2, 3);
+    }
+}
@@ -0,0 +1,111 @@
+package ru.urasha.studygroup.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.models.Semester;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTests {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GroupViewRegistry viewRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        viewRegistry = mock(GroupViewRegistry.class);
+        NotificationProperties properties = new NotificationProperties(
+                Duration.ofMillis(200), 5, NotificationPayload.DELTA, 100, 2);
+        dispatcher = new NotificationDispatcher(viewRegistry, tasks::add, properties, meterRegistry);
+    }
+
+    @Test
+    void sendsFramesInOrderFromOneDrainTask() {
+        dispatcher.dispatch(frame(1, 1, List.of(1), List.of(), List.of()));
+        dispatcher.dispatch(frame(2, 2, List.of(2), List.of(), List.of()));
+
+        assertThat(tasks).hasSize(1);
+        assertThat(meterRegistry.get("studygroup.notifications.queue.depth").gauge().value()).isEqualTo(2);
+
+        runTasks();
+
+        List<StudyGroupChangeBatchDto> sent = sentFrames();
+        assertThat(sent).extracting(StudyGroupChangeBatchDto::seq).containsExactly(1L, 2L);
+        assertThat(dispatcher.depth()).isZero();
+        assertThat(meterRegistry.get("studygroup.notifications.dispatch.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void mergesIntoNewestFrameWhenQueueIsFull() {
+        dispatcher.dispatch(frame(1, 1, List.of(1), List.of(), List.of()));
+        dispatcher.dispatch(frame(2, 3, List.of(2), List.of(3), List.of()));
+        dispatcher.dispatch(frame(4, 6, List.of(4), List.of(2), List.of(3)));
+
+        runTasks();
+
+        List<StudyGroupChangeBatchDto> sent = sentFrames();
+        assertThat(sent).hasSize(2);
+        StudyGroupChangeBatchDto merged = sent.get(1);
+        assertThat(merged.fromSeq()).isEqualTo(2);
+        assertThat(merged.seq()).isEqualTo(6);
+        assertThat(merged.created()).containsExactly(2, 4);
+        assertThat(merged.updated()).isEmpty();
+        assertThat(merged.deleted()).containsExactly(3);
+        assertThat(merged.groups()).extracting(StudyGroupSummaryDto::id).containsExactly(2, 4);
+        assertThat(meterRegistry.get("studygroup.notifications.merged").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void mergedFrameOverLimitBecomesResync() {
+        dispatcher.dispatch(frame(1, 1, List.of(1), List.of(), List.of()));
+        dispatcher.dispatch(frame(2, 4, List.of(2, 3, 4), List.of(), List.of()));
+        dispatcher.dispatch(frame(5, 7, List.of(5, 6, 7), List.of(), List.of()));
+
+        runTasks();
+
+        StudyGroupChangeBatchDto merged = sentFrames().get(1);
+        assertThat(merged.resync()).isTrue();
+        assertThat(merged.fromSeq()).isEqualTo(2);
+        assertThat(merged.seq()).isEqualTo(7);
+        assertThat(merged.created()).isEmpty();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private List<StudyGroupChangeBatchDto> sentFrames() {
+        ArgumentCaptor<StudyGroupChangeBatchDto> frames = ArgumentCaptor.forClass(StudyGroupChangeBatchDto.class);
+        verify(viewRegistry, atLeastOnce()).route(frames.capture());
+        return frames.getAllValues();
+    }
+
+    private static StudyGroupChangeBatchDto frame(long fromSeq, long seq, List<Integer> created,
+                                                  List<Integer> updated, List<Integer> deleted) {
+        List<StudyGroupSummaryDto> groups = new ArrayList<>();
+        created.forEach(id -> groups.add(summary(id)));
+        updated.forEach(id -> groups.add(summary(id)));
+        return new StudyGroupChangeBatchDto(StudyGroupChangeBatchDto.EVENT, fromSeq, seq,
+                created, updated, deleted, groups, false);
+    }
+
+    private static StudyGroupSummaryDto summary(Integer id) {
+        return new StudyGroupSummaryDto(id, 0, "group-" + id, LocalDate.now(), 1, 1, 1, 1, 1.0, null, Semester.SECOND,
+                "admin");
+    }
+}
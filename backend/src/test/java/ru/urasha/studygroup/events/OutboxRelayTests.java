@@ -0,0 +1,87 @@
+package ru.urasha.studygroup.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+import ru.urasha.studygroup.models.OutboxEvent;
+import ru.urasha.studygroup.models.StudyGroup;
+import ru.urasha.studygroup.repositories.OutboxEventRepository;
+import ru.urasha.studygroup.services.StudyGroupService;
+import ru.urasha.studygroup.support.Await;
+import ru.urasha.studygroup.support.StudyGroupFixtures;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTests {
+
+    @Autowired
+    private StudyGroupService studyGroupService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private StudyGroupChangeLog changeLog;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void committedChangeIsRelayedAndRemovedFromOutbox() throws Exception {
+        long before = changeLog.latest();
+
+        StudyGroup group = studyGroupService.create(StudyGroupFixtures.group("outbox-committed", 5, "outbox-admin"));
+
+        Await.until(() -> isLogged(group.getId(), before));
+        Await.until(() -> outboxEventRepository.count() == 0);
+    }
+
+    @Test
+    void rolledBackChangeIsNeverRelayed() {
+        long before = changeLog.latest();
+
+        StudyGroup group = new TransactionTemplate(transactionManager).execute(status -> {
+            StudyGroup created = studyGroupService.create(
+                    StudyGroupFixtures.group("outbox-rolled-back", 5, "outbox-admin"));
+            status.setRollbackOnly();
+            return created;
+        });
+        outboxRelay.relayBatch();
+
+        assertThat(isLogged(group.getId(), before)).isFalse();
+    }
+
+    @Test
+    void eventsLeftByAnotherNodeAreRelayed() throws Exception {
+        long before = changeLog.latest();
+        OutboxEvent leftover = new OutboxEvent();
+        leftover.setOrigin("crashed-node");
+        leftover.setPayload(objectMapper.writeValueAsString(new StudyGroupChangedEvent(987_654, EventType.UPDATED)));
+        leftover.setCreatedAt(Instant.now());
+        Long id = outboxEventRepository.save(leftover).getId();
+
+        outboxRelay.wakeUp();
+
+        Await.until(() -> isLogged(987_654, before));
+        Await.until(() -> !outboxEventRepository.existsById(id));
+    }
+
+    private boolean isLogged(Integer groupId, long after) {
+        return changeLog.since(after).changes().stream().anyMatch(change -> change.id().equals(groupId));
+    }
+}
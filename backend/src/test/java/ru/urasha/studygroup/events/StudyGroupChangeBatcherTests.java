@@ -0,0 +1,180 @@
+package ru.urasha.studygroup.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.StudyGroupChangeBatchDto;
+import ru.urasha.studygroup.dto.StudyGroupSummaryDto;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+import ru.urasha.studygroup.models.Semester;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class StudyGroupChangeBatcherTests {
+
+    private static final int MAX_PENDING_IDS = 10_000;
+
+    private GroupViewRegistry viewRegistry;
+    private StudyGroupChangeBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        viewRegistry = mock(GroupViewRegistry.class);
+        NotificationProperties properties = new NotificationProperties(
+                Duration.ofMillis(200), MAX_PENDING_IDS, NotificationPayload.DELTA, 100_000, 64);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(viewRegistry, new SyncTaskExecutor(),
+                properties, new SimpleMeterRegistry());
+        batcher = new StudyGroupChangeBatcher(new StudyGroupChangeLog(properties), dispatcher, properties);
+    }
+
+    @Test
+    void burstOfSingleRowEventsIsSentAsOneFrame() {
+        IntStream.range(0, 5_000).forEach(id -> batcher.submit(new StudyGroupChangedEvent(id, EventType.DELETED)));
+
+        batcher.flush();
+
+        StudyGroupChangeBatchDto frame = singleFrame();
+        assertThat(frame.deleted()).hasSize(5_000);
+        assertThat(frame.created()).isEmpty();
+        assertThat(frame.resync()).isFalse();
+    }
+
+    @Test
+    void repeatedChangesCollapseToLatestState() {
+        batcher.submit(new StudyGroupChangedEvent(1, EventType.CREATED));
+        batcher.submit(new StudyGroupChangedEvent(1, EventType.UPDATED));
+        batcher.submit(new StudyGroupChangedEvent(2, EventType.CREATED));
+        batcher.submit(new StudyGroupChangedEvent(2, EventType.DELETED));
+        batcher.submit(new StudyGroupChangedEvent(3, EventType.UPDATED));
+        batcher.submit(new StudyGroupChangedEvent(3, EventType.UPDATED));
+        batcher.submit(new StudyGroupChangedEvent(4, EventType.UPDATED));
+        batcher.submit(new StudyGroupChangedEvent(4, EventType.DELETED));
+
+        batcher.flush();
+
+        StudyGroupChangeBatchDto frame = singleFrame();
+        assertThat(frame.created()).containsExactly(1);
+        assertThat(frame.updated()).containsExactly(3);
+        assertThat(frame.deleted()).containsExactly(4);
+    }
+
+    @Test
+    void framesCarrySequenceRangeAndNewState() {
+        batcher.submit(new StudyGroupChangedEvent(EventType.CREATED, List.of(summary(1, "a"))));
+        batcher.submit(new StudyGroupChangedEvent(EventType.UPDATED, List.of(summary(1, "b"))));
+        batcher.submit(new StudyGroupChangedEvent(7, EventType.DELETED));
+
+        batcher.flush();
+
+        StudyGroupChangeBatchDto frame = singleFrame();
+        assertThat(frame.fromSeq()).isEqualTo(1);
+        assertThat(frame.seq()).isEqualTo(3);
+        assertThat(frame.created()).containsExactly(1);
+        assertThat(frame.groups()).extracting(StudyGroupSummaryDto::name).containsExactly("b");
+    }
+
+    @Test
+    void statesArrivingOutOfCommitOrderKeepTheNewestVersion() {
+        batcher.submit(new StudyGroupChangedEvent(EventType.UPDATED, List.of(summary(1, 3, "newer"))));
+        batcher.submit(new StudyGroupChangedEvent(EventType.UPDATED, List.of(summary(1, 2, "older"))));
+        batcher.submit(new StudyGroupChangedEvent(2, EventType.DELETED));
+        batcher.submit(new StudyGroupChangedEvent(EventType.UPDATED, List.of(summary(2, 5, "before delete"))));
+
+        batcher.flush();
+
+        StudyGroupChangeBatchDto frame = singleFrame();
+        assertThat(frame.updated()).containsExactly(1);
+        assertThat(frame.deleted()).containsExactly(2);
+        assertThat(frame.groups()).extracting(StudyGroupSummaryDto::name).containsExactly("newer");
+    }
+
+    @Test
+    void overflowSendsResyncInsteadOfIds() {
+        List<Integer> ids = IntStream.rangeClosed(0, MAX_PENDING_IDS).boxed().toList();
+        batcher.submit(new StudyGroupChangedEvent(ids, EventType.UPDATED));
+        batcher.submit(new StudyGroupChangedEvent(1, EventType.UPDATED));
+
+        batcher.flush();
+
+        StudyGroupChangeBatchDto frame = singleFrame();
+        assertThat(frame.resync()).isTrue();
+        assertThat(frame.updated()).isEmpty();
+    }
+
+    @Test
+    void nothingIsSentWithoutChanges() {
+        batcher.flush();
+
+        verifyNoInteractions(viewRegistry);
+    }
+
+    @Test
+    void concurrentWritersAreDeliveredInFewFrames() throws Exception {
+        int writers = 8;
+        int eventsPerWriter = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int offset = w * eventsPerWriter;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerWriter; i++) {
+                    batcher.submit(new StudyGroupChangedEvent(offset + i, EventType.CREATED));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        int flushes = 0;
+        while (!futures.stream().allMatch(Future::isDone)) {
+            batcher.flush();
+            flushes++;
+            Thread.sleep(5);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        batcher.flush();
+        flushes++;
+
+        ArgumentCaptor<StudyGroupChangeBatchDto> frames = ArgumentCaptor.forClass(StudyGroupChangeBatchDto.class);
+        verify(viewRegistry, atLeastOnce()).route(frames.capture());
+        Set<Integer> delivered = new HashSet<>();
+        frames.getAllValues().forEach(frame -> delivered.addAll(frame.created()));
+
+        assertThat(frames.getAllValues()).hasSizeLessThanOrEqualTo(flushes);
+        assertThat(frames.getAllValues().size()).isLessThan(writers * eventsPerWriter / 100);
+        assertThat(delivered).hasSize(writers * eventsPerWriter);
+    }
+
+    private static StudyGroupSummaryDto summary(Integer id, String name) {
+        return summary(id, 0, name);
+    }
+
+    private static StudyGroupSummaryDto summary(Integer id, long version, String name) {
+        return new StudyGroupSummaryDto(id, version, name, LocalDate.now(), 1, 1, 1, 1, 1.0, null, Semester.SECOND,
+                "admin");
+    }
+
+    private StudyGroupChangeBatchDto singleFrame() {
+        ArgumentCaptor<StudyGroupChangeBatchDto> frame = ArgumentCaptor.forClass(StudyGroupChangeBatchDto.class);
+        verify(viewRegistry, times(1)).route(frame.capture());
+        return frame.getValue();
+    }
+}
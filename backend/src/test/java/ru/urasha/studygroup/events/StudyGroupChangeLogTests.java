@@ -0,0 +1,48 @@
+package ru.urasha.studygroup.events;
+
+import org.junit.jupiter.api.Test;
+import ru.urasha.studygroup.config.NotificationProperties;
+import ru.urasha.studygroup.dto.StudyGroupChangeDto;
+import ru.urasha.studygroup.dto.StudyGroupChangesDto;
+import ru.urasha.studygroup.events.StudyGroupChangedEvent.EventType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyGroupChangeLogTests {
+
+    private final StudyGroupChangeLog changeLog = new StudyGroupChangeLog(
+            new NotificationProperties(Duration.ofMillis(200), 10_000, NotificationPayload.DELTA, 5, 64));
+
+    @Test
+    void returnsChangesAfterSequenceInOrder() {
+        changeLog.append(new StudyGroupChangedEvent(List.of(1, 2), EventType.UPDATED));
+        changeLog.append(new StudyGroupChangedEvent(3, EventType.DELETED));
+
+        StudyGroupChangesDto changes = changeLog.since(1);
+
+        assertThat(changes.gap()).isFalse();
+        assertThat(changes.latest()).isEqualTo(3);
+        assertThat(changes.changes()).extracting(StudyGroupChangeDto::seq).containsExactly(2L, 3L);
+        assertThat(changes.changes()).extracting(StudyGroupChangeDto::id).containsExactly(2, 3);
+    }
+
+    @Test
+    void reportsGapWhenChangesWereEvicted() {
+        changeLog.append(new StudyGroupChangedEvent(List.of(1, 2, 3, 4, 5, 6, 7), EventType.UPDATED));
+
+        assertThat(changeLog.since(1).gap()).isTrue();
+        assertThat(changeLog.since(2).gap()).isFalse();
+        assertThat(changeLog.since(2).changes()).hasSize(5);
+    }
+
+    @Test
+    void reportsGapForSequenceFromTheFuture() {
+        changeLog.append(new StudyGroupChangedEvent(1, EventType.CREATED));
+
+        assertThat(changeLog.since(42).gap()).isTrue();
+        assertThat(changeLog.since(1).changes()).isEmpty();
+    }
+}
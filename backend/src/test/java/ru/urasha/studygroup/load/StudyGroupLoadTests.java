@@ -0,0 +1,349 @@
+package ru.urasha.studygroup.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.urasha.studygroup.services.AdminNameService;
+import ru.urasha.studygroup.services.StudyGroupSearchService;
+import ru.urasha.studygroup.services.StudyGroupStatsService;
+import ru.urasha.studygroup.support.StudyGroupDataGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mixed workload over HTTP against the application filled with generated groups and
+ * reports throughput and p50/p99 latency per operation. Tagged {@code load} and excluded from the
+ * normal build; run with {@code mvn -Pload test}. Tuned with system properties:
+ * <ul>
+ *     <li>{@code load.groups} (100000), {@code load.threads} (8), {@code load.seed} (42)</li>
+ *     <li>{@code load.warmup} (PT5S) and {@code load.duration} (PT30S)</li>
+ *     <li>{@code load.jdbc-url}, {@code load.jdbc-username}, {@code load.jdbc-password} to run against
+ *     PostgreSQL instead of the in-memory H2 database</li>
+ *     <li>{@code load.virtual-threads=true} to serve requests on virtual threads (Java 21)</li>
+ * </ul>
+ * The report is printed and written to {@code target/load-report.txt}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class StudyGroupLoadTests {
+
+    private static final int GROUPS = Integer.getInteger("load.groups", 100_000);
+    private static final int THREADS = Integer.getInteger("load.threads", 8);
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StudyGroupSearchService searchService;
+
+    @Autowired
+    private StudyGroupStatsService statsService;
+
+    @Autowired
+    private AdminNameService adminNameService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.jpa.show-sql", () -> "false");
+        String jdbcUrl = System.getProperty("load.jdbc-url");
+        if (jdbcUrl != null) {
+            registry.add("spring.datasource.url", () -> jdbcUrl);
+            registry.add("spring.datasource.username", () -> System.getProperty("load.jdbc-username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("load.jdbc-password", ""));
+            registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+            registry.add("spring.sql.init.platform", () -> "postgresql");
+            registry.add("studygroup.search.engine", () -> "database");
+        }
+        if (Boolean.getBoolean("load.virtual-threads")) {
+            registry.add("spring.threads.virtual.enabled", () -> "true");
+        }
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        int[] ids = prepareData();
+
+        run(ids, WARMUP, new Report());
+        Report report = new Report();
+        run(ids, DURATION, report);
+
+        String text = report.format(DURATION);
+        System.out.println(text);
+        Files.createDirectories(Path.of("target"));
+        Files.writeString(Path.of("target", "load-report.txt"), text);
+        assertThat(report.errorRate()).as("error rate").isLessThan(0.01);
+    }
+
+    private int[] prepareData() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        long existing;
+        try {
+            existing = entityManager.createQuery("select count(g) from StudyGroup g", Long.class).getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+        if (existing < GROUPS) {
+            long started = System.nanoTime();
+            new StudyGroupDataGenerator(entityManagerFactory, SEED).insert((int) (GROUPS - existing));
+            System.out.printf("Generated %d groups in %d s%n", GROUPS - existing,
+                    Duration.ofNanos(System.nanoTime() - started).toSeconds());
+            searchService.rebuildIndex();
+            statsService.rebuild();
+            adminNameService.rebuild();
+            cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+        }
+        entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("select g.id from StudyGroup g", Integer.class).getResultStream()
+                    .mapToInt(Integer::intValue).toArray();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void run(int[] ids, Duration duration, Report report) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < THREADS; worker++) {
+            Random random = new Random(SEED + worker);
+            futures.add(workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = Operation.pick(random);
+                    HttpRequest request = operation.request(this, random, ids);
+                    long started = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    }
+                    report.record(operation, System.nanoTime() - started, status >= 200 && status < 300);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api" + path))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static int randomId(Random random, int[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private enum Operation {
+        LIST(35) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                String[] sorts = {"id", "name", "studentsCount", "averageMark"};
+                return test.request("/groups?size=20&page=" + random.nextInt(50)
+                        + "&sort=" + sorts[random.nextInt(sorts.length)] + "&asc=" + random.nextBoolean()).GET().build();
+            }
+        },
+        FILTERED_LIST(15) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                return test.request("/groups?size=20&nameContains="
+                        + encode(StudyGroupDataGenerator.nameFragment(random))).GET().build();
+            }
+        },
+        GET(15) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                return test.request("/groups/" + randomId(random, ids)).GET().build();
+            }
+        },
+        SEARCH(10) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                return test.request("/groups/special/search?substring="
+                        + encode(StudyGroupDataGenerator.nameFragment(random))).GET().build();
+            }
+        },
+        UPDATE(10) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                String body = test.json(StudyGroupDataGenerator.dto(random));
+                return test.request("/groups/" + randomId(random, ids))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+            }
+        },
+        UNIQUE_ADMINS(8) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                return test.request("/groups/special/unique-admins?page=0&size=20&prefix="
+                        + encode(StudyGroupDataGenerator.adminPrefix(random))).GET().build();
+            }
+        },
+        STATS(5) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                return test.request("/groups/stats").GET().build();
+            }
+        },
+        EXPEL(2) {
+            @Override
+            HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids) {
+                return test.request("/groups/special/" + randomId(random, ids) + "/expel")
+                        .POST(HttpRequest.BodyPublishers.noBody()).build();
+            }
+        };
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(operation -> operation.weight).sum();
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        abstract HttpRequest request(StudyGroupLoadTests test, Random random, int[] ids);
+
+        static Operation pick(Random random) {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    private static final class Report {
+
+        private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+        Report() {
+            for (Operation operation : Operation.values()) {
+                samples.put(operation, new Samples());
+            }
+        }
+
+        void record(Operation operation, long nanos, boolean ok) {
+            samples.get(operation).add(nanos, ok);
+        }
+
+        double errorRate() {
+            long total = samples.values().stream().mapToLong(Samples::count).sum();
+            long errors = samples.values().stream().mapToLong(Samples::errors).sum();
+            return total == 0 ? 0 : (double) errors / total;
+        }
+
+        String format(Duration duration) {
+            double seconds = duration.toMillis() / 1000.0;
+            StringBuilder out = new StringBuilder(String.format(
+                    "Load test: %d groups, %d threads, %s%n%-14s %9s %7s %9s %9s %9s%n",
+                    GROUPS, THREADS, duration, "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms"));
+            long total = 0;
+            for (Map.Entry<Operation, Samples> entry : samples.entrySet()) {
+                Samples operation = entry.getValue();
+                long[] sorted = operation.sorted();
+                total += sorted.length;
+                out.append(String.format("%-14s %9d %7d %9.1f %9.2f %9.2f%n", entry.getKey(), sorted.length,
+                        operation.errors(), sorted.length / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99)));
+            }
+            out.append(String.format("%-14s %9d %7s %9.1f%n", "total", total, "", total / seconds));
+            return out.toString();
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long value, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ru.urasha.studygroup.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminNameIndexTests {
+
+    private final AdminNameIndex index = new AdminNameIndex();
+
+    @Test
+    void nameStaysWhileAnyGroupUsesIt() {
+        index.put(1, "Ivanov");
+        index.put(2, "Ivanov");
+        index.put(3, "Petrov");
+
+        index.remove(1);
+        assertThat(index.find(null, 0, 10)).containsExactly("Ivanov", "Petrov");
+
+        index.put(2, "Sidorov");
+        assertThat(index.find(null, 0, 10)).containsExactly("Petrov", "Sidorov");
+    }
+
+    @Test
+    void prefixLookupIgnoresCaseAndPages() {
+        index.put(1, "anna");
+        index.put(2, "Andrey");
+        index.put(3, "ANTON");
+        index.put(4, "Boris");
+        index.put(5, "Anna");
+
+        assertThat(index.count("an")).isEqualTo(4);
+        assertThat(index.find("AN", 0, 2)).containsExactly("Andrey", "Anna");
+        assertThat(index.find("an", 2, 2)).containsExactly("anna", "ANTON");
+        assertThat(index.find("b", 0, 10)).containsExactly("Boris");
+        assertThat(index.find("x", 0, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package ru.urasha.studygroup.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTests {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    void queriesShorterThanATrigramScanTheNames() {
+        index.put(1, "P3110");
+        index.put(2, "M3200");
+        index.put(3, "x");
+
+        assertThat(index.search("31")).containsExactlyInAnyOrder(1);
+        assertThat(index.search("3")).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search("x")).containsExactlyInAnyOrder(3);
+        assertThat(index.search("")).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void matchingIgnoresCase() {
+        index.put(1, "Algebra Group");
+        index.put(2, "ALGORITHMS");
+
+        assertThat(index.search("alg")).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search("GROUP")).containsExactlyInAnyOrder(1);
+        assertThat(index.search("rItHm")).containsExactlyInAnyOrder(2);
+    }
+
+    @Test
+    void onlyNamesContainingTheWholeQueryMatch() {
+        // Both trigrams of "abcd" occur here, but not next to each other.
+        index.put(1, "abc-bcd");
+        index.put(2, "xabcdx");
+
+        assertThat(index.search("abcd")).containsExactlyInAnyOrder(2);
+        assertThat(index.search("abcde")).isEmpty();
+    }
+
+    @Test
+    void updatesAndRemovalsReplaceTheIndexedName() {
+        index.put(1, "Physics");
+        index.put(2, "Physical education");
+
+        index.put(1, "Chemistry");
+        assertThat(index.search("phys")).containsExactlyInAnyOrder(2);
+        assertThat(index.search("chem")).containsExactlyInAnyOrder(1);
+
+        index.remove(2);
+        assertThat(index.search("phys")).isEmpty();
+        assertThat(index.search("ph")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,61 @@
+package ru.urasha.studygroup.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import ru.urasha.studygroup.cluster.ClusterEventBus;
+import ru.urasha.studygroup.cluster.ClusterEventDispatcher;
+import ru.urasha.studygroup.cluster.ClusterMessage;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stand-in for a real cross-node bus: every application context in this JVM that joins it gets
+ * every change, serialized to JSON and back as it would be on the wire. A member can be
+ * disconnected to drop what it would receive, like a listener that lost its connection.
+ */
+public class InJvmClusterEventBus implements ClusterEventBus, DisposableBean {
+
+    private static final List<InJvmClusterEventBus> MEMBERS = new CopyOnWriteArrayList<>();
+
+    private final ClusterEventDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private volatile boolean connected = true;
+
+    public InJvmClusterEventBus(ClusterEventDispatcher dispatcher, ObjectMapper objectMapper) {
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        MEMBERS.add(this);
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            for (InJvmClusterEventBus member : MEMBERS) {
+                if (!member.connected) {
+                    continue;
+                }
+                member.dispatcher.deliver(member.objectMapper.readValue(payload, ClusterMessage.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void disconnect() {
+        connected = false;
+    }
+
+    public void reconnect() {
+        connected = true;
+        dispatcher.resync();
+    }
+
+    @Override
+    public void destroy() {
+        MEMBERS.remove(this);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.urasha.studygroup.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the thread that last called {@link #reset()},
+ * so background work such as the outbox relay does not skew the numbers, and keeps the last one
+ * so its plan can be checked. Registered through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static volatile Thread owner;
+    private static volatile String last;
+
+    public static void reset() {
+        owner = Thread.currentThread();
+        COUNT.set(0);
+        last = null;
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    public static String last() {
+        return last;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() == owner) {
+            COUNT.incrementAndGet();
+            last = sql;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,146 @@
+package ru.urasha.studygroup.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.models.*;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Generates reproducible study groups, with their coordinates, admins and locations, for load
+ * tests. Rows are written through a stateless session in chunks, so millions of groups fit in
+ * memory; no change events are published, so in-memory indexes have to be rebuilt afterwards.
+ */
+public class StudyGroupDataGenerator {
+
+    private static final String[] FACULTIES = {"P", "M", "K", "R", "N", "J"};
+    private static final String[] FIRST_NAMES = {
+            "Alexander", "Maria", "Ivan", "Anna", "Dmitry", "Elena", "Sergey", "Olga", "Andrey", "Natalia",
+            "Mikhail", "Tatiana", "Nikolai", "Irina", "Pavel", "Svetlana", "Artem", "Ksenia", "Roman", "Daria"
+    };
+    private static final String[] LAST_NAMES = {
+            "Ivanov", "Petrov", "Sidorov", "Smirnov", "Kuznetsov", "Popov", "Vasiliev", "Sokolov", "Mikhailov",
+            "Novikov", "Fedorov", "Morozov", "Volkov", "Alekseev", "Lebedev", "Semenov", "Egorov", "Pavlov",
+            "Kozlov", "Stepanov", "Nikolaev", "Orlov", "Andreev", "Makarov", "Zakharov"
+    };
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final SessionFactory sessionFactory;
+    private final Random random;
+
+    public StudyGroupDataGenerator(EntityManagerFactory entityManagerFactory, long seed) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Inserts {@code count} groups and returns their ids.
+     */
+    public int[] insert(int count) {
+        int[] ids = new int[count];
+        int written = 0;
+        while (written < count) {
+            int chunk = Math.min(CHUNK_SIZE, count - written);
+            try (StatelessSession session = sessionFactory.openStatelessSession()) {
+                session.setJdbcBatchSize(50);
+                Transaction transaction = session.beginTransaction();
+                for (int i = 0; i < chunk; i++) {
+                    ids[written + i] = insert(session, group(random));
+                }
+                transaction.commit();
+            }
+            written += chunk;
+        }
+        return ids;
+    }
+
+    /**
+     * A group like the inserted ones, for create and update requests.
+     */
+    public static StudyGroupDto dto(Random random) {
+        StudyGroup group = group(random);
+        StudyGroupDto dto = new StudyGroupDto();
+        dto.setName(group.getName());
+        dto.setCoordinates(group.getCoordinates());
+        dto.setStudentsCount(group.getStudentsCount());
+        dto.setExpelledStudents(group.getExpelledStudents());
+        dto.setTransferredStudents(group.getTransferredStudents());
+        dto.setFormOfEducation(group.getFormOfEducation());
+        dto.setShouldBeExpelled(group.getShouldBeExpelled());
+        dto.setAverageMark(group.getAverageMark());
+        dto.setSemesterEnum(group.getSemesterEnum());
+        dto.setGroupAdmin(group.getGroupAdmin());
+        return dto;
+    }
+
+    /**
+     * A substring that matches about one in six hundred generated names.
+     */
+    public static String nameFragment(Random random) {
+        return pick(random, FACULTIES) + (3100 + random.nextInt(100));
+    }
+
+    public static String adminPrefix(Random random) {
+        return pick(random, FIRST_NAMES).substring(0, 3);
+    }
+
+    private int insert(StatelessSession session, StudyGroup group) {
+        Person admin = group.getGroupAdmin();
+        if (admin.getLocation() != null) {
+            session.insert(admin.getLocation());
+        }
+        session.insert(admin);
+        session.insert(group.getCoordinates());
+        session.insert(group);
+        return group.getId();
+    }
+
+    private static StudyGroup group(Random random) {
+        Coordinates coordinates = new Coordinates();
+        coordinates.setX(round(random.nextDouble() * 1_000 - 500));
+        coordinates.setY(random.nextInt(499));
+
+        StudyGroup group = new StudyGroup();
+        group.setName(pick(random, FACULTIES) + (3100 + random.nextInt(100)) + "-" + (1 + random.nextInt(9)));
+        group.setCoordinates(coordinates);
+        group.setCreationDate(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(5 * 365)));
+        group.setStudentsCount(random.nextInt(41));
+        group.setExpelledStudents(1 + random.nextInt(10));
+        group.setTransferredStudents(1 + random.nextInt(10));
+        group.setFormOfEducation(random.nextInt(10) == 0 ? null : pick(random, FormOfEducation.values()));
+        group.setShouldBeExpelled(1 + random.nextInt(5));
+        group.setAverageMark(round(2 + random.nextDouble() * 3));
+        group.setSemesterEnum(pick(random, Semester.values()));
+        group.setGroupAdmin(admin(random));
+        return group;
+    }
+
+    private static Person admin(Random random) {
+        Person admin = new Person();
+        admin.setName(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES));
+        admin.setEyeColor(pick(random, Color.values()));
+        admin.setHairColor(pick(random, Color.values()));
+        admin.setNationality(pick(random, Country.values()));
+        admin.setPassportID(String.valueOf(1_000_000_000L + random.nextInt(900_000_000)));
+        if (random.nextInt(5) > 0) {
+            Location location = new Location();
+            location.setX(random.nextFloat() * 100);
+            location.setY((long) random.nextInt(1_000));
+            location.setZ(random.nextFloat() * 100);
+            admin.setLocation(location);
+        }
+        return admin;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
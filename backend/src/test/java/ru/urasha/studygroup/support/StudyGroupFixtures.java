@@ -0,0 +1,37 @@
+package ru.urasha.studygroup.support;
+
+import ru.urasha.studygroup.dto.StudyGroupDto;
+import ru.urasha.studygroup.models.*;
+
+public final class StudyGroupFixtures {
+
+    private StudyGroupFixtures() {
+    }
+
+    public static StudyGroupDto group(String name, int studentsCount, String adminName) {
+        Coordinates coordinates = new Coordinates();
+        coordinates.setX(1.5);
+        coordinates.setY(10);
+
+        Location location = new Location();
+        location.setX(1f);
+        location.setY(2L);
+        location.setZ(3f);
+
+        Person admin = new Person();
+        admin.setName(adminName);
+        admin.setEyeColor(Color.BLUE);
+        admin.setHairColor(Color.BROWN);
+        admin.setNationality(Country.ITALY);
+        admin.setLocation(location);
+
+        StudyGroupDto dto = new StudyGroupDto();
+        dto.setName(name);
+        dto.setCoordinates(coordinates);
+        dto.setStudentsCount(studentsCount);
+        dto.setFormOfEducation(FormOfEducation.FULL_TIME_EDUCATION);
+        dto.setSemesterEnum(Semester.SIXTH);
+        dto.setGroupAdmin(admin);
+        return dto;
+    }
+}
@@ -14,7 +14,7 @@ export function createWebSocket(onMessage, opts = {}) {
             console.debug('[STOMP]', str);
         },
         onConnect: (frame) => {
-            client.subscribe('/topic/groups', (msg) => {
+            client.subscribe('/user/queue/groups', (msg) => {
                 let payload = msg.body;
                 try {
                     payload = JSON.parse(msg.body);
@@ -29,6 +29,7 @@ export function createWebSocket(onMessage, opts = {}) {
                 }
             });
             console.info('STOMP connected', frame);
+            if (opts.onConnect) opts.onConnect(client);
         },
         onStompError: (frame) => {
             console.error('Broker reported error: ' + frame.headers['message']);
@@ -42,3 +43,8 @@ export function createWebSocket(onMessage, opts = {}) {
     client.activate();
     return client;
 }
+
+export function sendView(client, view) {
+    if (!client?.connected) return;
+    client.publish({destination: '/app/groups/view', body: JSON.stringify(view)});
+}